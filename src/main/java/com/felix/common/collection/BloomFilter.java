@@ -0,0 +1,126 @@
+package com.felix.common.collection;
+
+/**
+ * Probabilistic set of objects with fixed memory, that can answer with false positives but never with false negatives.
+ * The objects are identified by {@link Object#hashCode()}, so objects with equal hash codes are considered equals,
+ * and with many objects the 32 bits hash codes collide more often than the false positive rate, for that case
+ * use {@link #putHash(long)} and {@link #mightContainHash(long)} with a 64 bits hash of the objects.
+ * Not thread-safe.
+ */
+public class BloomFilter {
+
+    private static final long MAX_BITS = (long) Integer.MAX_VALUE * Long.SIZE;
+
+    private final long[] bits;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.bits = new long[(int) ((bitSize + Long.SIZE - 1) / Long.SIZE)];
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Create a {@link BloomFilter} sized for the expected number of objects and false positive rate.
+     * @param expectedInsertions expected number of objects.
+     * @param falsePositiveRate expected rate of false positives, between 0 and 1 exclusive.
+     * @return instance of {@link BloomFilter}.
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1)
+            throw new IllegalArgumentException("Expected insertions must be greater than zero.");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1.");
+
+        double ln2 = Math.log(2);
+        long bitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        bitSize = Math.max(Long.SIZE, Math.min(MAX_BITS, bitSize));
+        int hashFunctions = (int) Math.max(1, Math.round((double) bitSize / expectedInsertions * ln2));
+        return new BloomFilter(bitSize, hashFunctions);
+    }
+
+    /**
+     * Add the object to filter.
+     * @param obj object to add.
+     * @return true if the object certainly wasn't in the filter, false if it might have been.
+     */
+    public boolean put(Object obj) {
+        return putHash(obj == null ? 0 : obj.hashCode());
+    }
+
+    /**
+     * Add the object identified by a 64 bits hash to filter.
+     * @param hash hash of the object, it doesn't need to be uniformly distributed.
+     * @return true if the object certainly wasn't in the filter, false if it might have been.
+     */
+    public boolean putHash(long hash) {
+        long h1 = mix(hash);
+        long h2 = Long.rotateLeft(h1, 32) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = index(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns true if the object might be in the filter, false if it certainly isn't.
+     * @param obj object to find.
+     * @return true if the object might be in the filter.
+     */
+    public boolean mightContain(Object obj) {
+        return mightContainHash(obj == null ? 0 : obj.hashCode());
+    }
+
+    /**
+     * Returns true if the object identified by a 64 bits hash might be in the filter, false if it certainly isn't.
+     * @param hash hash of the object to find.
+     * @return true if the object might be in the filter.
+     */
+    public boolean mightContainHash(long hash) {
+        long h1 = mix(hash);
+        long h2 = Long.rotateLeft(h1, 32) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = index(h1 + i * h2);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of bits of filter.
+     * @return number of bits.
+     */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * Returns the number of hash functions applied for each object.
+     * @return number of hash functions.
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % bitSize;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
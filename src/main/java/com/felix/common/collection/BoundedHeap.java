@@ -0,0 +1,65 @@
+package com.felix.common.collection;
+
+import com.felix.common.collection.KeyedSort.Keyed;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Heap that keeps only the k best elements offered, in O(log k) for each element.
+ * The worst element kept is at the root, so it is the one replaced by a better element.
+ */
+final class BoundedHeap<T> {
+
+    private final int k;
+    private final Comparator<Keyed<?>> order;
+    private final PriorityQueue<Keyed<T>> heap;
+
+    private BoundedHeap(int k, Comparator<Keyed<?>> order) {
+        this.k = k;
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), order.reversed());
+    }
+
+    static <T, U extends Comparable<? super U>> Collector<T, ?, List<T>> collector(int k, Function<? super T, U> function, boolean greatest) {
+        if (k < 0)
+            throw new IllegalArgumentException("K is negative.");
+
+        Comparator<Keyed<?>> order = greatest ? KeyedSort.BY_KEY.reversed() : KeyedSort.BY_KEY;
+        return Collector.of(
+                () -> new BoundedHeap<T>(k, order),
+                (heap, t) -> heap.offer(new Keyed<>(function.apply(t), t)),
+                BoundedHeap::merge,
+                BoundedHeap::toList);
+    }
+
+    private void offer(Keyed<T> keyed) {
+        if (heap.size() < k) {
+            heap.add(keyed);
+        } else if (k > 0 && order.compare(keyed, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(keyed);
+        }
+    }
+
+    private BoundedHeap<T> merge(BoundedHeap<T> other) {
+        for (Keyed<T> keyed : other.heap) {
+            offer(keyed);
+        }
+        return this;
+    }
+
+    private List<T> toList() {
+        List<Keyed<T>> sorted = new ArrayList<>(heap);
+        sorted.sort(order);
+        List<T> result = new ArrayList<>(sorted.size());
+        for (Keyed<T> keyed : sorted) {
+            result.add(keyed.element);
+        }
+        return result;
+    }
+}
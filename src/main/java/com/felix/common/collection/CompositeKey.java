@@ -0,0 +1,94 @@
+package com.felix.common.collection;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Key made of many values, compared value by value, to use in a {@link SortedSetFilter} with many comparison functions.
+ * A key that is a prefix of another key is lower than it, for example ("Felix") is lower than ("Felix", 1).
+ */
+public final class CompositeKey implements Comparable<CompositeKey> {
+
+    private final Object[] values;
+
+    private CompositeKey(Object[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Create a {@link CompositeKey} by values.
+     * @param values values of key, must be {@link Comparable} and not null.
+     * @return instance of {@link CompositeKey}.
+     */
+    public static CompositeKey of(Object... values) {
+        requireNonNull(values, "Values is null.");
+        Object[] copy = values.clone();
+        for (Object value : copy) {
+            requireNonNull(value, "Value is null.");
+        }
+        return new CompositeKey(copy);
+    }
+
+    /**
+     * Returns the number of values in key.
+     * @return number of values.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the value in position.
+     * @param index position of value.
+     * @return value.
+     */
+    public Object get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns true if the values of this key are the first values of other key.
+     * @param other other key.
+     * @return true if this key is prefix of other.
+     */
+    public boolean isPrefixOf(CompositeKey other) {
+        if (values.length > other.values.length)
+            return false;
+
+        for (int i = 0; i < values.length; i++) {
+            if (!values[i].equals(other.values[i]))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public int compareTo(CompositeKey other) {
+        int length = Math.min(values.length, other.values.length);
+        for (int i = 0; i < length; i++) {
+            int result = ((Comparable) values[i]).compareTo(other.values[i]);
+            if (result != 0)
+                return result;
+        }
+        return Integer.compare(values.length, other.values.length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(values, ((CompositeKey) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
@@ -0,0 +1,328 @@
+package com.felix.common.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Growable list of primitive {@code double} values, without boxing to {@link Double}.
+ * Not thread-safe.
+ */
+public class DoubleList {
+
+    private static final double[] EMPTY = new double[0];
+
+    private double[] array;
+    private int size;
+
+    /**
+     * Create an empty list.
+     */
+    public DoubleList() {
+        this.array = EMPTY;
+    }
+
+    /**
+     * Create an empty list with initial capacity.
+     * @param capacity initial capacity.
+     */
+    public DoubleList(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity is negative.");
+        this.array = capacity == 0 ? EMPTY : new double[capacity];
+    }
+
+    /**
+     * Create a list with values.
+     * @param values values of list.
+     * @return instance of {@link DoubleList}.
+     */
+    public static DoubleList of(double... values) {
+        requireNonNull(values, "Values is null.");
+        DoubleList list = new DoubleList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    /**
+     * Add a value at the end of list.
+     * @param value value to add.
+     */
+    public void add(double value) {
+        ensureCapacity(size + 1);
+        array[size++] = value;
+    }
+
+    /**
+     * Add values at the end of list.
+     * @param values values to add.
+     */
+    public void addAll(double... values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, array, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Add values of other list at the end of list.
+     * @param other list with values to add.
+     */
+    public void addAll(DoubleList other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.array, 0, array, size, other.size);
+        size += other.size;
+    }
+
+    /**
+     * Returns the value in position.
+     * @param index position of value.
+     * @return value.
+     */
+    public double get(int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Replace the value in position.
+     * @param index position of value.
+     * @param value new value.
+     * @return previous value.
+     */
+    public double set(int index, double value) {
+        checkIndex(index);
+        double previous = array[index];
+        array[index] = value;
+        return previous;
+    }
+
+    /**
+     * Remove the value in position, shifting the next values to left.
+     * @param index position of value.
+     * @return removed value.
+     */
+    public double removeAt(int index) {
+        checkIndex(index);
+        double removed = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns the number of values in list.
+     * @return size of list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if list has no values.
+     * @return true if list is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all values of list, keeping the capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the position of the first occurrence of value.
+     * @param value value to find.
+     * @return position of value, -1 if list doesn't contains.
+     */
+    public int indexOf(double value) {
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(array[i], value) == 0)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Contains the value in list.
+     * @param value value to find.
+     * @return true if list contains value, false if doesn't contains.
+     */
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Sort the values of list in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(array, 0, size);
+    }
+
+    /**
+     * Returns an array with the values of list.
+     * @return a new array.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Reduce the capacity of list to its size.
+     */
+    public void trimToSize() {
+        if (array.length > size)
+            array = size == 0 ? EMPTY : Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Execute the action for each value of list.
+     * @param action action to execute.
+     */
+    public void forEach(DoubleConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < size; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    /**
+     * Returns a sequential stream with the values of list.
+     * @return stream of values.
+     */
+    public DoubleStream stream() {
+        return Arrays.stream(array, 0, size);
+    }
+
+    /**
+     * Convert the values of list to other values.
+     * @param function function to map.
+     * @return a converted list.
+     */
+    public DoubleList map(DoubleUnaryOperator function) {
+        requireNonNull(function);
+        DoubleList result = new DoubleList(size);
+        for (int i = 0; i < size; i++) {
+            result.array[i] = function.applyAsDouble(array[i]);
+        }
+        result.size = size;
+        return result;
+    }
+
+    /**
+     * Convert the values of list to objects.
+     * @param function function to map.
+     * @param <T> generic type of objects.
+     * @return a converted list.
+     */
+    public <T> List<T> mapToObj(DoubleFunction<T> function) {
+        requireNonNull(function);
+        List<T> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(function.apply(array[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Filter values in list.
+     * @param predicate condition to filter.
+     * @return a filtered list.
+     */
+    public DoubleList filter(DoublePredicate predicate) {
+        requireNonNull(predicate);
+        DoubleList result = new DoubleList();
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(array[i]))
+                result.add(array[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values grouped by key.
+     * @param function returns property to grouping.
+     * @param <K> generic type of key.
+     * @return Grouped Map.
+     */
+    public <K> Map<K, DoubleList> groupBy(DoubleFunction<K> function) {
+        requireNonNull(function);
+        Map<K, DoubleList> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.computeIfAbsent(function.apply(array[i]), k -> new DoubleList()).add(array[i]);
+        }
+        return map;
+    }
+
+    /**
+     * Returns the values grouped by a {@code long} key, without boxing the keys.
+     * @param function returns property to grouping.
+     * @return Grouped Map.
+     */
+    public LongObjectMap<DoubleList> groupByLong(DoubleToLongFunction function) {
+        requireNonNull(function);
+        LongObjectMap<DoubleList> map = new LongObjectMap<>();
+        for (int i = 0; i < size; i++) {
+            map.computeIfAbsent(function.applyAsLong(array[i]), k -> new DoubleList()).add(array[i]);
+        }
+        return map;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0)
+            throw new OutOfMemoryError("List is too large.");
+        if (capacity > array.length)
+            array = Arrays.copyOf(array, Math.max(capacity, Math.max(10, array.length + (array.length >> 1))));
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DoubleList other = (DoubleList) o;
+        if (size != other.size)
+            return false;
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(array[i], other.array[i]) != 0)
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Double.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0)
+                sb.append(", ");
+            sb.append(array[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
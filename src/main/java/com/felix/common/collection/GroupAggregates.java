@@ -0,0 +1,105 @@
+package com.felix.common.collection;
+
+import com.felix.common.number.BigDecimals;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Collectors that fold the elements of each group into an accumulator, without keeping the elements.
+ * Each thread of a parallel stream fills its own map, merged at the end.
+ */
+final class GroupAggregates {
+
+    private static final Object EMPTY = new Object();
+
+    private GroupAggregates() {
+    }
+
+    static <V, K> Collector<V, ?, Map<K, Long>> count(Function<? super V, ? extends K> key) {
+        return of(key, () -> new long[1], (a, v) -> a[0]++, (a, b) -> {
+            a[0] += b[0];
+            return a;
+        }, a -> a[0]);
+    }
+
+    static <V, K> Collector<V, ?, Map<K, Long>> sumLong(Function<? super V, ? extends K> key, ToLongFunction<? super V> function) {
+        return of(key, () -> new long[1], (a, v) -> a[0] += function.applyAsLong(v), (a, b) -> {
+            a[0] += b[0];
+            return a;
+        }, a -> a[0]);
+    }
+
+    static <V, K> Collector<V, ?, Map<K, BigDecimal>> sumBigDecimal(Function<? super V, ? extends K> key, Function<? super V, BigDecimal> function) {
+        return of(key, () -> new BigDecimal[]{BigDecimal.ZERO}, (a, v) -> a[0] = a[0].add(BigDecimals.zeroIfNull(function.apply(v))), (a, b) -> {
+            a[0] = a[0].add(b[0]);
+            return a;
+        }, a -> a[0]);
+    }
+
+    static <V, K, U extends Comparable<? super U>> Collector<V, ?, Map<K, V>> best(Function<? super V, ? extends K> key, Function<? super V, U> function, boolean max) {
+        int sign = max ? -1 : 1;
+        return of(key, () -> new Object[]{EMPTY, null}, (a, v) -> offer(a, function.apply(v), v, sign), (a, b) -> {
+            if (b[0] != EMPTY)
+                offer(a, b[0], b[1], sign);
+            return a;
+        }, a -> cast(a[1]));
+    }
+
+    static <V, K, R> Collector<V, ?, Map<K, R>> reduce(Function<? super V, ? extends K> key, Function<? super V, ? extends R> mapper, BinaryOperator<R> reducer) {
+        return of(key, () -> new Object[]{EMPTY}, (a, v) -> a[0] = a[0] == EMPTY ? mapper.apply(v) : reducer.apply(cast(a[0]), mapper.apply(v)), (a, b) -> {
+            if (b[0] != EMPTY)
+                a[0] = a[0] == EMPTY ? b[0] : reducer.apply(cast(a[0]), cast(b[0]));
+            return a;
+        }, a -> cast(a[0]));
+    }
+
+    static <V, K, A> Collector<V, ?, Map<K, A>> aggregate(Function<? super V, ? extends K> key, Supplier<A> supplier, BiConsumer<A, ? super V> accumulator, BinaryOperator<A> combiner) {
+        return of(key, supplier, accumulator, combiner, a -> a);
+    }
+
+    private static <V, K, A, R> Collector<V, ?, Map<K, R>> of(Function<? super V, ? extends K> key, Supplier<A> supplier,
+                                                              BiConsumer<A, ? super V> accumulator, BinaryOperator<A> combiner,
+                                                              Function<A, R> finisher) {
+        return Collector.<V, Map<K, A>, Map<K, R>>of(
+                HashMap::new,
+                (map, v) -> {
+                    K k = key.apply(v);
+                    A a = map.get(k);
+                    if (a == null) {
+                        a = supplier.get();
+                        map.put(k, a);
+                    }
+                    accumulator.accept(a, v);
+                },
+                (left, right) -> {
+                    right.forEach((k, b) -> left.merge(k, b, combiner));
+                    return left;
+                },
+                map -> {
+                    Map<K, R> result = new HashMap<>(Math.max(16, (int) (map.size() / .75f) + 1));
+                    map.forEach((k, a) -> result.put(k, finisher.apply(a)));
+                    return result;
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <U> void offer(Object[] best, Object key, Object element, int sign) {
+        if (best[0] == EMPTY || sign * ((Comparable<U>) key).compareTo((U) best[0]) < 0) {
+            best[0] = key;
+            best[1] = element;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object obj) {
+        return (T) obj;
+    }
+}
@@ -0,0 +1,34 @@
+package com.felix.common.collection;
+
+/**
+ * Hash functions and sizing shared by the open addressing collections.
+ */
+final class HashTables {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private HashTables() {
+    }
+
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    static int capacityFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        if (needed > MAX_CAPACITY)
+            throw new IllegalArgumentException("Expected size is too large.");
+        int capacity = 16;
+        while (capacity < needed) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,62 @@
+package com.felix.common.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Hash index over a {@link List}, created by {@link ListFilter#indexed()}.
+ * The list is read once when the index is built, later changes to it are not reflected.
+ */
+public class IndexedListFilter<T, S> {
+
+    private final Map<S, List<T>> index;
+
+    IndexedListFilter(List<T> list, Function<T, S> compareFunction) {
+        this.index = new HashMap<>(Math.max(16, (int) (list.size() / .75f) + 1));
+        for (T element : list) {
+            index.computeIfAbsent(compareFunction.apply(element), k -> new ArrayList<>(1)).add(element);
+        }
+    }
+
+    /**
+     * Returns the first element, in list order, filtering by comparator.
+     * @param obj filter object.
+     * @return object in list if exists.
+     */
+    public Optional<T> next(S obj) {
+        List<T> matches = index.get(obj);
+        return matches == null ? Optional.empty() : Optional.of(matches.get(0));
+    }
+
+    /**
+     * Returns all elements, in list order, filtering by comparator.
+     * @param obj filter object.
+     * @return unmodifiable list with the elements, empty if none exists.
+     */
+    public List<T> all(S obj) {
+        List<T> matches = index.get(obj);
+        return matches == null ? Collections.emptyList() : Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Returns true if any element has the filter object as key.
+     * @param obj filter object.
+     * @return true if exists.
+     */
+    public boolean contains(S obj) {
+        return index.containsKey(obj);
+    }
+
+    /**
+     * Returns the number of distinct keys in the index.
+     * @return number of keys.
+     */
+    public int keyCount() {
+        return index.size();
+    }
+}
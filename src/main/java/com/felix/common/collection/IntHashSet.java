@@ -0,0 +1,246 @@
+package com.felix.common.collection;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hash set of primitive {@code int} values, with open addressing and linear probing, without boxing to {@link Integer}.
+ * Not thread-safe.
+ */
+public class IntHashSet {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private int[] keys;
+    private boolean hasZero;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    /**
+     * Create an empty set.
+     */
+    public IntHashSet() {
+        this(16);
+    }
+
+    /**
+     * Create an empty set for expected number of values without resizing.
+     * @param expectedSize expected number of values.
+     */
+    public IntHashSet(int expectedSize) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Expected size is negative.");
+        allocate(HashTables.capacityFor(expectedSize, LOAD_FACTOR));
+    }
+
+    /**
+     * Create a set with values.
+     * @param values values of set.
+     * @return instance of {@link IntHashSet}.
+     */
+    public static IntHashSet of(int... values) {
+        requireNonNull(values, "Values is null.");
+        IntHashSet set = new IntHashSet(values.length);
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Add a value to set.
+     * @param value value to add.
+     * @return true if set doesn't contains the value.
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (hasZero)
+                return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+
+        int i = HashTables.mix(value) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == value)
+                return false;
+            i = (i + 1) & mask;
+        }
+        keys[i] = value;
+        if (++size >= resizeAt)
+            rehash(keys.length << 1);
+        return true;
+    }
+
+    /**
+     * Contains the value in set.
+     * @param value value to find.
+     * @return true if set contains value, false if doesn't contains.
+     */
+    public boolean contains(int value) {
+        if (value == 0)
+            return hasZero;
+
+        int i = HashTables.mix(value) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == value)
+                return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Remove the value from set.
+     * @param value value to remove.
+     * @return true if set contained the value.
+     */
+    public boolean remove(int value) {
+        if (value == 0) {
+            if (!hasZero)
+                return false;
+            hasZero = false;
+            size--;
+            return true;
+        }
+
+        int i = HashTables.mix(value) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == value) {
+                shiftKeys(i);
+                size--;
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of values in set.
+     * @return size of set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if set has no values.
+     * @return true if set is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all values of set, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZero = false;
+        size = 0;
+    }
+
+    /**
+     * Execute the action for each value of set, in no particular order.
+     * @param action action to execute.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        if (hasZero)
+            action.accept(0);
+        for (int key : keys) {
+            if (key != 0)
+                action.accept(key);
+        }
+    }
+
+    /**
+     * Returns an array with the values of set, in no particular order.
+     * @return a new array.
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int i = hasZero ? 1 : 0;
+        for (int key : keys) {
+            if (key != 0)
+                result[i++] = key;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a sequential stream with the values of set.
+     * @return stream of values.
+     */
+    public IntStream stream() {
+        return Arrays.stream(toArray());
+    }
+
+    private void shiftKeys(int slot) {
+        int gap = slot;
+        int i = (slot + 1) & mask;
+        while (keys[i] != 0) {
+            int ideal = HashTables.mix(keys[i]) & mask;
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                gap = i;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[gap] = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.min(capacity - 1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    private void rehash(int capacity) {
+        int[] old = keys;
+        allocate(capacity);
+        for (int key : old) {
+            if (key != 0) {
+                int i = HashTables.mix(key) & mask;
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IntHashSet other = (IntHashSet) o;
+        if (size != other.size || hasZero != other.hasZero)
+            return false;
+        for (int key : keys) {
+            if (key != 0 && !other.contains(key))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int key : keys) {
+            result += Integer.hashCode(key);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
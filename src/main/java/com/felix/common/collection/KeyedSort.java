@@ -0,0 +1,73 @@
+package com.felix.common.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Function;
+
+/**
+ * Decorate-sort-undecorate: the sort key of each element is extracted once and kept beside it while sorting.
+ */
+final class KeyedSort {
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final Comparator<Keyed<?>> BY_KEY = (a, b) -> ((Comparable) a.key).compareTo(b.key);
+
+    private KeyedSort() {
+    }
+
+    static final class Keyed<T> {
+
+        final Object key;
+        final T element;
+
+        Keyed(Object key, T element) {
+            this.key = key;
+            this.element = element;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Keyed<T>[] sorted(Collection<T> c, Function<? super T, ? extends Comparable<?>> function, boolean parallel) {
+        Keyed<T>[] keyed = (Keyed<T>[]) new Keyed<?>[c.size()];
+        int i = 0;
+        for (T element : c) {
+            keyed[i++] = new Keyed<>(function.apply(element), element);
+        }
+        if (parallel)
+            Arrays.parallelSort(keyed, BY_KEY);
+        else
+            Arrays.sort(keyed, BY_KEY);
+        return keyed;
+    }
+
+    static <T> Function<T, CompositeKey> composite(List<Function<T, ? extends Comparable<?>>> functions) {
+        List<Function<T, ? extends Comparable<?>>> copy = new ArrayList<>(functions);
+        return t -> {
+            Object[] values = new Object[copy.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = copy.get(i).apply(t);
+            }
+            return CompositeKey.of(values);
+        };
+    }
+
+    static <T> List<T> toList(Keyed<T>[] keyed) {
+        List<T> result = new ArrayList<>(keyed.length);
+        for (Keyed<T> k : keyed) {
+            result.add(k.element);
+        }
+        return result;
+    }
+
+    static <T> void writeBack(List<T> list, Keyed<T>[] keyed) {
+        ListIterator<T> iterator = list.listIterator();
+        for (Keyed<T> k : keyed) {
+            iterator.next();
+            iterator.set(k.element);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Class that contains methods to make it easier to filter objects in a {@link List}.
  */
@@ -51,4 +53,14 @@ public class ListFilter<T, S> {
                 .filter(l -> compareFunction.apply(l).equals(obj))
                 .findFirst();
     }
+
+    /**
+     * Builds a hash index of the list by the comparison function, for repeated lookups.
+     * The comparison function is applied once per element; each lookup is then O(1).
+     * @return instance of {@link IndexedListFilter}.
+     */
+    public IndexedListFilter<T, S> indexed() {
+        requireNonNull(compareFunction, "Compare function is null.");
+        return new IndexedListFilter<>(list, compareFunction);
+    }
 }
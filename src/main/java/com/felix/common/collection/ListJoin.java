@@ -0,0 +1,234 @@
+package com.felix.common.collection;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Class that contains methods to join the elements of two lists by a key, for example:
+ * <pre><code>
+ * ListJoin.of(orders, customers)
+ *         .on(Order::getCustomerId, Customer::getId)
+ *         .inner((order, customer) -&gt; new OrderView(order, customer))
+ * </code></pre>
+ * A hash table of keys is built from one list and the other list is read once, so a join is O(n + m).
+ * Memory is proportional to the list the hash table is built from, the smaller one when the join allows.
+ * Null keys never match.
+ */
+public class ListJoin<L, R, K> {
+
+    private final List<L> left;
+    private final List<R> right;
+    private Function<L, K> leftKey;
+    private Function<R, K> rightKey;
+
+    private ListJoin(List<L> left, List<R> right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    private ListJoin(List<L> left, List<R> right, Function<L, K> leftKey, Function<R, K> rightKey) {
+        this.left = left;
+        this.right = right;
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+    }
+
+    /**
+     * Receive the lists to join.
+     * @param left left list.
+     * @param right right list.
+     * @param <L> generic type of left list.
+     * @param <R> generic type of right list.
+     * @return instance of {@link ListJoin}.
+     */
+    public static <L, R> ListJoin<L, R, ?> of(List<L> left, List<R> right) {
+        requireNonNull(left, "Left list is null.");
+        requireNonNull(right, "Right list is null.");
+        return new ListJoin<>(left, right);
+    }
+
+    /**
+     * Informs the functions that returns the key of elements in each list.
+     * @param leftKey key of left elements.
+     * @param rightKey key of right elements.
+     * @param <U> generic type of key.
+     * @return this.
+     */
+    public <U> ListJoin<L, R, U> on(Function<L, U> leftKey, Function<R, U> rightKey) {
+        requireNonNull(leftKey, "Left key function is null.");
+        requireNonNull(rightKey, "Right key function is null.");
+        return new ListJoin<>(left, right, leftKey, rightKey);
+    }
+
+    /**
+     * Returns the combination of each pair of elements with equal keys.
+     * The hash table is built from the smaller list, and the result follows the order of the larger list.
+     * @param combiner combines a pair of elements.
+     * @param <T> generic type of result.
+     * @return a list with the combined pairs.
+     */
+    public <T> List<T> inner(BiFunction<? super L, ? super R, ? extends T> combiner) {
+        requireNonNull(combiner);
+        List<T> result = new ArrayList<>();
+        forEachInner((l, r) -> result.add(combiner.apply(l, r)));
+        return result;
+    }
+
+    /**
+     * Execute the action for each pair of elements with equal keys, without keeping the pairs.
+     * The hash table is built from the smaller list, and the pairs follow the order of the larger list.
+     * @param action action to execute.
+     */
+    public void forEachInner(BiConsumer<? super L, ? super R> action) {
+        requireNonNull(action);
+        if (right.size() <= left.size()) {
+            Map<K, Object> index = index(right, rightKey);
+            for (L l : left) {
+                ListJoin.<R>forEachMatch(index, leftKey.apply(l), r -> action.accept(l, r));
+            }
+        } else {
+            Map<K, Object> index = index(left, leftKey);
+            for (R r : right) {
+                ListJoin.<L>forEachMatch(index, rightKey.apply(r), l -> action.accept(l, r));
+            }
+        }
+    }
+
+    /**
+     * Returns the combination of each pair of elements with equal keys, and of each left element without pair with null.
+     * The hash table is built from the right list, and the result follows the order of the left list.
+     * @param combiner combines a pair of elements, the right element is null when there is no pair.
+     * @param <T> generic type of result.
+     * @return a list with the combined pairs.
+     */
+    public <T> List<T> left(BiFunction<? super L, ? super R, ? extends T> combiner) {
+        requireNonNull(combiner);
+        List<T> result = new ArrayList<>(left.size());
+        forEachLeft((l, r) -> result.add(combiner.apply(l, r)));
+        return result;
+    }
+
+    /**
+     * Execute the action for each pair of elements with equal keys, and for each left element without pair with null.
+     * The hash table is built from the right list, and the pairs follow the order of the left list.
+     * @param action action to execute, the right element is null when there is no pair.
+     */
+    public void forEachLeft(BiConsumer<? super L, ? super R> action) {
+        requireNonNull(action);
+        Map<K, Object> index = index(right, rightKey);
+        for (L l : left) {
+            if (!ListJoin.<R>forEachMatch(index, leftKey.apply(l), r -> action.accept(l, r)))
+                action.accept(l, null);
+        }
+    }
+
+    /**
+     * Returns the left elements that have at least one right element with equal key, in the order of the left list.
+     * @return a list with left elements.
+     */
+    public List<L> semi() {
+        return filterLeft(true);
+    }
+
+    /**
+     * Returns the left elements that have no right element with equal key, in the order of the left list.
+     * @return a list with left elements.
+     */
+    public List<L> anti() {
+        return filterLeft(false);
+    }
+
+    private List<L> filterLeft(boolean matched) {
+        List<L> result = new ArrayList<>();
+        if (right.size() <= left.size()) {
+            Set<K> keys = new HashSet<>(Math.max(16, (int) (right.size() / .75f) + 1));
+            for (R r : right) {
+                K key = rightKey.apply(r);
+                if (key != null)
+                    keys.add(key);
+            }
+            for (L l : left) {
+                K key = leftKey.apply(l);
+                if ((key != null && keys.contains(key)) == matched)
+                    result.add(l);
+            }
+        } else {
+            Map<K, IntList> positions = new HashMap<>(Math.max(16, (int) (left.size() / .75f) + 1));
+            int i = 0;
+            for (L l : left) {
+                K key = leftKey.apply(l);
+                if (key != null)
+                    positions.computeIfAbsent(key, k -> new IntList(1)).add(i);
+                i++;
+            }
+            BitSet found = new BitSet(left.size());
+            for (R r : right) {
+                K key = rightKey.apply(r);
+                IntList match = key == null ? null : positions.remove(key);
+                if (match != null)
+                    match.forEach(found::set);
+            }
+            i = 0;
+            for (L l : left) {
+                if (found.get(i++) == matched)
+                    result.add(l);
+            }
+        }
+        return result;
+    }
+
+    private static <T, U> Map<U, Object> index(List<T> list, Function<T, U> key) {
+        Map<U, Object> index = new HashMap<>(Math.max(16, (int) (list.size() / .75f) + 1));
+        for (T element : list) {
+            U k = key.apply(element);
+            if (k == null)
+                continue;
+
+            Object previous = index.putIfAbsent(k, element);
+            if (previous instanceof Bucket) {
+                ((Bucket) previous).elements.add(element);
+            } else if (previous != null) {
+                Bucket bucket = new Bucket();
+                bucket.elements.add(previous);
+                bucket.elements.add(element);
+                index.put(k, bucket);
+            }
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> boolean forEachMatch(Map<?, Object> index, Object key, Consumer<T> action) {
+        Object match = key == null ? null : index.get(key);
+        if (match == null)
+            return false;
+
+        if (match instanceof Bucket) {
+            for (Object element : ((Bucket) match).elements) {
+                action.accept((T) element);
+            }
+        } else {
+            action.accept((T) match);
+        }
+        return true;
+    }
+
+    /**
+     * Elements with the same key, distinguished from elements that are lists themselves.
+     */
+    private static final class Bucket {
+
+        final List<Object> elements = new ArrayList<>(2);
+    }
+}
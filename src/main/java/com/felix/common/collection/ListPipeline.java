@@ -0,0 +1,136 @@
+package com.felix.common.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Chain of map, filter and limit operations over a collection, executed in a single pass only when
+ * a terminal method is called, without creating a list for each operation.
+ * Each operation returns a new pipeline, so a pipeline can be reused.
+ * @param <T> generic type of the elements at the end of pipeline.
+ */
+public class ListPipeline<T> {
+
+    private static final int MAP = 0;
+    private static final int FILTER = 1;
+    private static final int LIMIT = 2;
+
+    private final Collection<?> source;
+    private final int[] types;
+    private final Object[] operations;
+
+    private ListPipeline(Collection<?> source, int[] types, Object[] operations) {
+        this.source = source;
+        this.types = types;
+        this.operations = operations;
+    }
+
+    static <T> ListPipeline<T> of(Collection<T> source) {
+        return new ListPipeline<>(source, new int[0], new Object[0]);
+    }
+
+    /**
+     * Convert the elements to another type.
+     * @param function function to map.
+     * @param <R> generic type of converted elements.
+     * @return a new pipeline.
+     */
+    public <R> ListPipeline<R> map(Function<? super T, ? extends R> function) {
+        return then(MAP, requireNonNull(function));
+    }
+
+    /**
+     * Filter the elements.
+     * @param predicate condition to filter.
+     * @return a new pipeline.
+     */
+    public ListPipeline<T> filter(Predicate<? super T> predicate) {
+        return then(FILTER, requireNonNull(predicate));
+    }
+
+    /**
+     * Keep only the first elements, the next ones are not read from collection.
+     * @param maxSize maximum number of elements.
+     * @return a new pipeline.
+     */
+    public ListPipeline<T> limit(long maxSize) {
+        if (maxSize < 0)
+            throw new IllegalArgumentException("Max size is negative.");
+        return then(LIMIT, maxSize);
+    }
+
+    /**
+     * Execute the pipeline and returns the resulting elements.
+     * @return a new list.
+     */
+    public List<T> toList() {
+        List<T> result = new ArrayList<>();
+        forEach(result::add);
+        return result;
+    }
+
+    /**
+     * Execute the pipeline and returns the number of resulting elements.
+     * @return number of elements.
+     */
+    public long count() {
+        long[] count = {0};
+        forEach(t -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Execute the pipeline and the action for each resulting element.
+     * @param action action to execute.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void forEach(Consumer<? super T> action) {
+        requireNonNull(action);
+        long[] counts = new long[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == LIMIT && (Long) operations[i] == 0)
+                return;
+        }
+
+        boolean exhausted = false;
+
+        for (Object element : source) {
+            Object value = element;
+            boolean accepted = true;
+            for (int i = 0; i < types.length && accepted; i++) {
+                switch (types[i]) {
+                    case MAP:
+                        value = ((Function) operations[i]).apply(value);
+                        break;
+                    case FILTER:
+                        accepted = ((Predicate) operations[i]).test(value);
+                        break;
+                    default:
+                        long maxSize = (Long) operations[i];
+                        accepted = counts[i] < maxSize;
+                        if (++counts[i] >= maxSize)
+                            exhausted = true;
+                }
+            }
+            if (accepted)
+                action.accept((T) value);
+            if (exhausted)
+                return;
+        }
+    }
+
+    private <R> ListPipeline<R> then(int type, Object operation) {
+        int[] newTypes = Arrays.copyOf(types, types.length + 1);
+        Object[] newOperations = Arrays.copyOf(operations, operations.length + 1);
+        newTypes[types.length] = type;
+        newOperations[operations.length] = operation;
+        return new ListPipeline<>(source, newTypes, newOperations);
+    }
+}
@@ -1,9 +1,15 @@
 package com.felix.common.collection;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
@@ -30,6 +36,35 @@ public class Lists {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns a read-only view of the list that converts the elements when they are read, without copying the list.
+     * The view reflects later changes to the list, and the function is applied on every read.
+     * @param list list.
+     * @param function function to map.
+     * @param <T> generic type of view.
+     * @param <S> generic type of list.
+     * @return a converted view of list.
+     */
+    public static <T, S> List<T> mappedView(List<S> list, Function<S, T> function) {
+        requireNonNull(list);
+        requireNonNull(function);
+        return MappedList.of(list, function);
+    }
+
+    /**
+     * Returns a pipeline to chain map, filter and limit operations that creates a list only at the end, for example:
+     * <pre><code>
+     * Lists.pipeline(persons).filter(p -&gt; p.getId() &gt; 10).map(Person::getName).limit(5).toList()
+     * </code></pre>
+     * @param c collection.
+     * @param <T> generic type of collection.
+     * @return instance of {@link ListPipeline}.
+     */
+    public static <T> ListPipeline<T> pipeline(Collection<T> c) {
+        requireNonNull(c);
+        return ListPipeline.of(c);
+    }
+
     /**
      * Returns a null list if is empty.
      * @param c list.
@@ -68,6 +103,128 @@ public class Lists {
                 .collect(Collectors.groupingBy(function));
     }
 
+    /**
+     * Returns the number of elements of each group, without keeping the elements.
+     * @param list list.
+     * @param function returns property to grouping.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @return Map with the number of elements of each key.
+     */
+    public static <K, V> Map<K, Long> groupCount(List<V> list, Function<V, K> function) {
+        requireNonNull(list);
+        requireNonNull(function);
+        return list.stream().collect(GroupAggregates.count(function));
+    }
+
+    /**
+     * Returns the sum of a property of the elements of each group, without keeping the elements.
+     * @param list list.
+     * @param function returns property to grouping.
+     * @param value returns property to sum.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @return Map with the sum of each key.
+     */
+    public static <K, V> Map<K, Long> groupSumLong(List<V> list, Function<V, K> function, ToLongFunction<V> value) {
+        requireNonNull(list);
+        requireNonNull(function);
+        requireNonNull(value);
+        return list.stream().collect(GroupAggregates.sumLong(function, value));
+    }
+
+    /**
+     * Returns the sum of a property of the elements of each group, without keeping the elements.
+     * Null properties are summed as zero.
+     * @param list list.
+     * @param function returns property to grouping.
+     * @param value returns property to sum.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @return Map with the sum of each key.
+     */
+    public static <K, V> Map<K, BigDecimal> groupSumBigDecimal(List<V> list, Function<V, K> function, Function<V, BigDecimal> value) {
+        requireNonNull(list);
+        requireNonNull(function);
+        requireNonNull(value);
+        return list.stream().collect(GroupAggregates.sumBigDecimal(function, value));
+    }
+
+    /**
+     * Returns the element with the lowest property of each group, without keeping the other elements.
+     * @param list list.
+     * @param function returns property to grouping.
+     * @param value returns property to compare.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @param <U> generic type of property to compare.
+     * @return Map with the lowest element of each key.
+     */
+    public static <K, V, U extends Comparable<? super U>> Map<K, V> groupMin(List<V> list, Function<V, K> function, Function<V, U> value) {
+        requireNonNull(list);
+        requireNonNull(function);
+        requireNonNull(value);
+        return list.stream().collect(GroupAggregates.best(function, value, false));
+    }
+
+    /**
+     * Returns the element with the greatest property of each group, without keeping the other elements.
+     * @param list list.
+     * @param function returns property to grouping.
+     * @param value returns property to compare.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @param <U> generic type of property to compare.
+     * @return Map with the greatest element of each key.
+     */
+    public static <K, V, U extends Comparable<? super U>> Map<K, V> groupMax(List<V> list, Function<V, K> function, Function<V, U> value) {
+        requireNonNull(list);
+        requireNonNull(function);
+        requireNonNull(value);
+        return list.stream().collect(GroupAggregates.best(function, value, true));
+    }
+
+    /**
+     * Returns the elements of each group reduced to a single value, without keeping the elements.
+     * @param list list.
+     * @param function returns property to grouping.
+     * @param mapper converts each element to the reduced type.
+     * @param reducer combines two values, must be associative.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @param <R> generic type of reduced value.
+     * @return Map with the reduced value of each key.
+     */
+    public static <K, V, R> Map<K, R> groupReduce(List<V> list, Function<V, K> function, Function<V, R> mapper, BinaryOperator<R> reducer) {
+        requireNonNull(list);
+        requireNonNull(function);
+        requireNonNull(mapper);
+        requireNonNull(reducer);
+        return list.stream().collect(GroupAggregates.reduce(function, mapper, reducer));
+    }
+
+    /**
+     * Returns the elements of each group folded into a mutable accumulator, without keeping the elements.
+     * @param list list.
+     * @param function returns property to grouping.
+     * @param supplier creates the accumulator of a group.
+     * @param accumulator folds an element into the accumulator.
+     * @param combiner merges two accumulators of the same group.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @param <A> generic type of accumulator.
+     * @return Map with the accumulator of each key.
+     */
+    public static <K, V, A> Map<K, A> groupAggregate(List<V> list, Function<V, K> function, Supplier<A> supplier,
+                                                     BiConsumer<A, V> accumulator, BinaryOperator<A> combiner) {
+        requireNonNull(list);
+        requireNonNull(function);
+        requireNonNull(supplier);
+        requireNonNull(accumulator);
+        requireNonNull(combiner);
+        return list.stream().collect(GroupAggregates.aggregate(function, supplier, accumulator, combiner));
+    }
+
     /**
      * Filter elements in a list.
      * @param list list to filter.
@@ -84,7 +241,8 @@ public class Lists {
     }
 
     /**
-     * Sort elements in a list.
+     * Sort elements in a list, the sort is stable.
+     * The function is applied once for each element.
      * @param list list to sort.
      * @param function function to sort list.
      * @param <T> generic type of list.
@@ -94,8 +252,115 @@ public class Lists {
     public static <T, U extends Comparable<? super U>> List<T> sort(List<T> list, Function<T, U> function) {
         requireNonNull(list);
         requireNonNull(function);
-        return list.stream()
-                .sorted(Comparator.comparing(function))
-                .collect(Collectors.toList());
+        return KeyedSort.toList(KeyedSort.sorted(list, function, false));
+    }
+
+    /**
+     * Sort elements in a list by many properties, the sort is stable.
+     * Elements are compared by the first function, then by the next ones when equals.
+     * The functions are applied once for each element.
+     * @param list list to sort.
+     * @param functions functions to sort list, in order of relevance.
+     * @param <T> generic type of list.
+     * @return a sorted list.
+     */
+    @SafeVarargs
+    public static <T> List<T> sortByKeys(List<T> list, Function<T, ? extends Comparable<?>>... functions) {
+        requireNonNull(list);
+        requireNonNull(functions);
+        List<Function<T, ? extends Comparable<?>>> keys = new ArrayList<>(functions.length);
+        for (Function<T, ? extends Comparable<?>> function : functions) {
+            keys.add(function);
+        }
+        return KeyedSort.toList(KeyedSort.sorted(list, KeyedSort.composite(keys), false));
+    }
+
+    /**
+     * Sort elements in a mutable list, replacing its elements instead of creating a new list.
+     * The function is applied once for each element.
+     * @param list list to sort, must support {@link ListIterator#set(Object)}.
+     * @param function function to sort list.
+     * @param <T> generic type of list.
+     * @param <U> generic type of property to filter.
+     */
+    public static <T, U extends Comparable<? super U>> void sortInPlace(List<T> list, Function<T, U> function) {
+        requireNonNull(list);
+        requireNonNull(function);
+        KeyedSort.writeBack(list, KeyedSort.sorted(list, function, false));
+    }
+
+    /**
+     * Returns the k elements with the greatest properties, sorted from the greatest, without sorting the whole list.
+     * The order of elements with equal properties is unspecified.
+     * @param list list.
+     * @param k maximum number of elements.
+     * @param function returns property to compare.
+     * @param <T> generic type of list.
+     * @param <U> generic type of property.
+     * @return a list with at most k elements.
+     */
+    public static <T, U extends Comparable<? super U>> List<T> topK(List<T> list, int k, Function<T, U> function) {
+        requireNonNull(list);
+        return list.stream().collect(toTopK(k, function));
+    }
+
+    /**
+     * Returns the k elements with the lowest properties, sorted from the lowest, without sorting the whole list.
+     * The order of elements with equal properties is unspecified.
+     * @param list list.
+     * @param k maximum number of elements.
+     * @param function returns property to compare.
+     * @param <T> generic type of list.
+     * @param <U> generic type of property.
+     * @return a list with at most k elements.
+     */
+    public static <T, U extends Comparable<? super U>> List<T> bottomK(List<T> list, int k, Function<T, U> function) {
+        requireNonNull(list);
+        return list.stream().collect(toBottomK(k, function));
+    }
+
+    /**
+     * Returns a {@link Collector} that keeps the k elements with the greatest properties, using memory for k elements only.
+     * Can be used in parallel streams.
+     * @param k maximum number of elements.
+     * @param function returns property to compare.
+     * @param <T> generic type of elements.
+     * @param <U> generic type of property.
+     * @return {@link Collector} to use in a collect method.
+     */
+    public static <T, U extends Comparable<? super U>> Collector<T, ?, List<T>> toTopK(int k, Function<? super T, U> function) {
+        requireNonNull(function);
+        return BoundedHeap.collector(k, function, true);
+    }
+
+    /**
+     * Returns a {@link Collector} that keeps the k elements with the lowest properties, using memory for k elements only.
+     * Can be used in parallel streams.
+     * @param k maximum number of elements.
+     * @param function returns property to compare.
+     * @param <T> generic type of elements.
+     * @param <U> generic type of property.
+     * @return {@link Collector} to use in a collect method.
+     */
+    public static <T, U extends Comparable<? super U>> Collector<T, ?, List<T>> toBottomK(int k, Function<? super T, U> function) {
+        requireNonNull(function);
+        return BoundedHeap.collector(k, function, false);
+    }
+
+    /**
+     * Returns the methods of this class executed in parallel, for large lists.
+     * @return instance of {@link ParallelLists} with default threshold.
+     */
+    public static ParallelLists parallel() {
+        return ParallelLists.DEFAULT;
+    }
+
+    /**
+     * Returns the methods of this class executed in parallel, for lists with size from threshold.
+     * @param threshold size from which lists are processed in parallel.
+     * @return instance of {@link ParallelLists}.
+     */
+    public static ParallelLists parallel(int threshold) {
+        return ParallelLists.withThreshold(threshold);
     }
 }
@@ -0,0 +1,332 @@
+package com.felix.common.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hash map with primitive {@code long} keys, with open addressing and linear probing, without boxing to {@link Long}.
+ * Not thread-safe.
+ * @param <V> generic type of values.
+ */
+public class LongObjectMap<V> {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] keys;
+    private Object[] values;
+    private boolean hasZeroKey;
+    private V zeroValue;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    /**
+     * Consumer of the entries of a {@link LongObjectMap}.
+     * @param <V> generic type of values.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        void accept(long key, V value);
+    }
+
+    /**
+     * Create an empty map.
+     */
+    public LongObjectMap() {
+        this(16);
+    }
+
+    /**
+     * Create an empty map for expected number of entries without resizing.
+     * @param expectedSize expected number of entries.
+     */
+    public LongObjectMap(int expectedSize) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Expected size is negative.");
+        allocate(HashTables.capacityFor(expectedSize, LOAD_FACTOR));
+    }
+
+    /**
+     * Associate the value with the key.
+     * @param key key.
+     * @param value value.
+     * @return previous value of key, null if the map doesn't contains the key.
+     */
+    public V put(long key, V value) {
+        if (key == 0) {
+            V previous = zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+
+        int i = HashTables.mix(key) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                V previous = value(i);
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size >= resizeAt)
+            rehash(keys.length << 1);
+        return null;
+    }
+
+    /**
+     * Returns the value of key.
+     * @param key key.
+     * @return value of key, null if the map doesn't contains the key.
+     */
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Returns the value of key, or default value if the map doesn't contains the key.
+     * @param key key.
+     * @param defaultValue default value.
+     * @return value of key.
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == 0)
+            return hasZeroKey ? zeroValue : defaultValue;
+
+        int i = slot(key);
+        return i < 0 ? defaultValue : value(i);
+    }
+
+    /**
+     * Contains the key in map.
+     * @param key key.
+     * @return true if map contains key, false if doesn't contains.
+     */
+    public boolean containsKey(long key) {
+        return key == 0 ? hasZeroKey : slot(key) >= 0;
+    }
+
+    /**
+     * Returns the value of key, computing and associating it if the map doesn't contains the key.
+     * @param key key.
+     * @param function function to compute the value.
+     * @return value of key.
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> function) {
+        requireNonNull(function);
+        if (key == 0) {
+            if (!hasZeroKey)
+                put(0, function.apply(0));
+            return zeroValue;
+        }
+
+        int i = slot(key);
+        if (i >= 0)
+            return value(i);
+
+        V value = function.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Remove the key from map.
+     * @param key key.
+     * @return removed value, null if the map doesn't contains the key.
+     */
+    public V remove(long key) {
+        if (key == 0) {
+            if (!hasZeroKey)
+                return null;
+            V previous = zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            size--;
+            return previous;
+        }
+
+        int i = slot(key);
+        if (i < 0)
+            return null;
+
+        V previous = value(i);
+        shiftKeys(i);
+        size--;
+        return previous;
+    }
+
+    /**
+     * Returns the number of entries in map.
+     * @return size of map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if map has no entries.
+     * @return true if map is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all entries of map, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    /**
+     * Returns an array with the keys of map, in no particular order.
+     * @return a new array.
+     */
+    public long[] keys() {
+        long[] result = new long[size];
+        int j = hasZeroKey ? 1 : 0;
+        for (long key : keys) {
+            if (key != 0)
+                result[j++] = key;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a list with the values of map, in the same order of {@link #keys()}.
+     * @return a new list.
+     */
+    public List<V> values() {
+        List<V> result = new ArrayList<>(size);
+        if (hasZeroKey)
+            result.add(zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                result.add(value(i));
+        }
+        return result;
+    }
+
+    /**
+     * Execute the action for each entry of map, in no particular order.
+     * @param action action to execute.
+     */
+    public void forEach(EntryConsumer<? super V> action) {
+        requireNonNull(action);
+        if (hasZeroKey)
+            action.accept(0, zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                action.accept(keys[i], value(i));
+        }
+    }
+
+    private int slot(long key) {
+        int i = HashTables.mix(key) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == key)
+                return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftKeys(int slot) {
+        int gap = slot;
+        int i = (slot + 1) & mask;
+        while (keys[i] != 0) {
+            int ideal = HashTables.mix(keys[i]) & mask;
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.min(capacity - 1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != 0) {
+                int i = HashTables.mix(oldKeys[j]) & mask;
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int i) {
+        return (V) values[i];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LongObjectMap<?> other = (LongObjectMap<?>) o;
+        if (size != other.size || hasZeroKey != other.hasZeroKey)
+            return false;
+        if (hasZeroKey && !Objects.equals(zeroValue, other.zeroValue))
+            return false;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                int j = other.slot(keys[i]);
+                if (j < 0 || !Objects.equals(values[i], other.values[j]))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hasZeroKey ? Objects.hashCode(zeroValue) : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                result += Long.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1)
+                sb.append(", ");
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+}
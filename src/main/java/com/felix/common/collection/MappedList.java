@@ -0,0 +1,103 @@
+package com.felix.common.collection;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Read-only view of a list that applies a function to the elements when they are read.
+ */
+class MappedList<S, T> extends AbstractList<T> {
+
+    private final List<S> list;
+    private final Function<S, T> function;
+
+    MappedList(List<S> list, Function<S, T> function) {
+        this.list = list;
+        this.function = function;
+    }
+
+    static <S, T> List<T> of(List<S> list, Function<S, T> function) {
+        return list instanceof RandomAccess ? new RandomAccessMappedList<>(list, function) : new MappedList<>(list, function);
+    }
+
+    @Override
+    public T get(int index) {
+        return function.apply(list.get(index));
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Iterates the iterator of the list, so lists without random access, as {@link java.util.LinkedList},
+     * are not read by index.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        ListIterator<S> iterator = list.listIterator(index);
+        return new ListIterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return function.apply(iterator.next());
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public T previous() {
+                return function.apply(iterator.previous());
+            }
+
+            @Override
+            public int nextIndex() {
+                return iterator.nextIndex();
+            }
+
+            @Override
+            public int previousIndex() {
+                return iterator.previousIndex();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void set(T t) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void add(T t) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private static class RandomAccessMappedList<S, T> extends MappedList<S, T> implements RandomAccess {
+
+        RandomAccessMappedList(List<S> list, Function<S, T> function) {
+            super(list, function);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.felix.common.collection;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Class that contains the methods of {@link Lists} executed in parallel on the common fork-join pool.
+ * Collections smaller than the threshold are processed sequentially, because splitting them costs more than it gains.
+ * The encounter order of the results is the same of {@link Lists}.
+ */
+public class ParallelLists {
+
+    /**
+     * Default size from which collections are processed in parallel.
+     */
+    public static final int DEFAULT_THRESHOLD = 10_000;
+
+    static final ParallelLists DEFAULT = new ParallelLists(DEFAULT_THRESHOLD);
+
+    private final int threshold;
+
+    private ParallelLists(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Create a {@link ParallelLists} processing collections in parallel from threshold size.
+     * @param threshold size from which collections are processed in parallel.
+     * @return instance of {@link ParallelLists}.
+     */
+    public static ParallelLists withThreshold(int threshold) {
+        if (threshold < 1)
+            throw new IllegalArgumentException("Threshold must be greater than zero.");
+        return new ParallelLists(threshold);
+    }
+
+    /**
+     * Returns the size from which collections are processed in parallel.
+     * @return threshold.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Convert a collection of a type to a list of another type.
+     * @param c collection.
+     * @param function function to map, must be thread-safe.
+     * @param <T> generic type of list.
+     * @param <S> generic type of collection.
+     * @return a converted list.
+     */
+    public <T, S> List<T> map(Collection<S> c, Function<S, T> function) {
+        requireNonNull(c);
+        requireNonNull(function);
+        if (c.size() < threshold)
+            return Lists.map(c, function);
+
+        return c.parallelStream()
+                .map(function)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a grouped list, the order of elements in each group is the order of list.
+     * @param list list.
+     * @param function returns property to grouping, must be thread-safe.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @return Grouped Map.
+     */
+    public <K, V> Map<K, List<V>> groupBy(List<V> list, Function<V, K> function) {
+        requireNonNull(list);
+        requireNonNull(function);
+        if (list.size() < threshold)
+            return Lists.groupBy(list, function);
+
+        return list.parallelStream()
+                .collect(Collectors.groupingBy(function));
+    }
+
+    /**
+     * Returns the number of elements of each group, without keeping the elements.
+     * Each thread fills its own map, merged at the end.
+     * @param list list.
+     * @param function returns property to grouping, must be thread-safe.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @return Map with the number of elements of each key.
+     */
+    public <K, V> Map<K, Long> groupCount(List<V> list, Function<V, K> function) {
+        requireNonNull(list);
+        requireNonNull(function);
+        return stream(list).collect(GroupAggregates.count(function));
+    }
+
+    /**
+     * Returns the sum of a property of the elements of each group, without keeping the elements.
+     * Each thread fills its own map, merged at the end.
+     * @param list list.
+     * @param function returns property to grouping, must be thread-safe.
+     * @param value returns property to sum.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @return Map with the sum of each key.
+     */
+    public <K, V> Map<K, Long> groupSumLong(List<V> list, Function<V, K> function, ToLongFunction<V> value) {
+        requireNonNull(list);
+        requireNonNull(function);
+        requireNonNull(value);
+        return stream(list).collect(GroupAggregates.sumLong(function, value));
+    }
+
+    /**
+     * Returns the sum of a property of the elements of each group, without keeping the elements.
+     * Null properties are summed as zero.
+     * Each thread fills its own map, merged at the end.
+     * @param list list.
+     * @param function returns property to grouping, must be thread-safe.
+     * @param value returns property to sum.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @return Map with the sum of each key.
+     */
+    public <K, V> Map<K, BigDecimal> groupSumBigDecimal(List<V> list, Function<V, K> function, Function<V, BigDecimal> value) {
+        requireNonNull(list);
+        requireNonNull(function);
+        requireNonNull(value);
+        return stream(list).collect(GroupAggregates.sumBigDecimal(function, value));
+    }
+
+    /**
+     * Returns the element with the lowest property of each group, without keeping the other elements.
+     * Each thread fills its own map, merged at the end.
+     * @param list list.
+     * @param function returns property to grouping, must be thread-safe.
+     * @param value returns property to compare.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @param <U> generic type of property to compare.
+     * @return Map with the lowest element of each key.
+     */
+    public <K, V, U extends Comparable<? super U>> Map<K, V> groupMin(List<V> list, Function<V, K> function, Function<V, U> value) {
+        requireNonNull(list);
+        requireNonNull(function);
+        requireNonNull(value);
+        return stream(list).collect(GroupAggregates.best(function, value, false));
+    }
+
+    /**
+     * Returns the element with the greatest property of each group, without keeping the other elements.
+     * Each thread fills its own map, merged at the end.
+     * @param list list.
+     * @param function returns property to grouping, must be thread-safe.
+     * @param value returns property to compare.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @param <U> generic type of property to compare.
+     * @return Map with the greatest element of each key.
+     */
+    public <K, V, U extends Comparable<? super U>> Map<K, V> groupMax(List<V> list, Function<V, K> function, Function<V, U> value) {
+        requireNonNull(list);
+        requireNonNull(function);
+        requireNonNull(value);
+        return stream(list).collect(GroupAggregates.best(function, value, true));
+    }
+
+    /**
+     * Returns the elements of each group reduced to a single value, without keeping the elements.
+     * Each thread fills its own map, merged at the end.
+     * @param list list.
+     * @param function returns property to grouping, must be thread-safe.
+     * @param mapper converts each element to the reduced type.
+     * @param reducer combines two values, must be associative.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @param <R> generic type of reduced value.
+     * @return Map with the reduced value of each key.
+     */
+    public <K, V, R> Map<K, R> groupReduce(List<V> list, Function<V, K> function, Function<V, R> mapper, BinaryOperator<R> reducer) {
+        requireNonNull(list);
+        requireNonNull(function);
+        requireNonNull(mapper);
+        requireNonNull(reducer);
+        return stream(list).collect(GroupAggregates.reduce(function, mapper, reducer));
+    }
+
+    /**
+     * Returns the elements of each group folded into a mutable accumulator, without keeping the elements.
+     * Each thread fills its own map, merged at the end.
+     * @param list list.
+     * @param function returns property to grouping, must be thread-safe.
+     * @param supplier creates the accumulator of a group.
+     * @param accumulator folds an element into the accumulator.
+     * @param combiner merges two accumulators of the same group.
+     * @param <K> generic type of key.
+     * @param <V> generic type of value.
+     * @param <A> generic type of accumulator.
+     * @return Map with the accumulator of each key.
+     */
+    public <K, V, A> Map<K, A> groupAggregate(List<V> list, Function<V, K> function, Supplier<A> supplier,
+                                              BiConsumer<A, V> accumulator, BinaryOperator<A> combiner) {
+        requireNonNull(list);
+        requireNonNull(function);
+        requireNonNull(supplier);
+        requireNonNull(accumulator);
+        requireNonNull(combiner);
+        return stream(list).collect(GroupAggregates.aggregate(function, supplier, accumulator, combiner));
+    }
+
+    /**
+     * Filter elements in a list.
+     * @param list list to filter.
+     * @param predicate condition to filter, must be thread-safe.
+     * @param <T> generic type of list.
+     * @return a filtered list.
+     */
+    public <T> List<T> filter(List<T> list, Predicate<T> predicate) {
+        requireNonNull(list);
+        requireNonNull(predicate);
+        if (list.size() < threshold)
+            return Lists.filter(list, predicate);
+
+        return list.parallelStream()
+                .filter(predicate)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sort elements in a list, the sort is stable.
+     * The function is applied once for each element.
+     * @param list list to sort.
+     * @param function function to sort list.
+     * @param <T> generic type of list.
+     * @param <U> generic type of property to filter.
+     * @return a sorted list.
+     */
+    public <T, U extends Comparable<? super U>> List<T> sort(List<T> list, Function<T, U> function) {
+        requireNonNull(list);
+        requireNonNull(function);
+        return KeyedSort.toList(KeyedSort.sorted(list, function, list.size() >= threshold));
+    }
+
+    /**
+     * Sort elements in a mutable list, replacing its elements instead of creating a new list.
+     * The function is applied once for each element.
+     * @param list list to sort, must support {@link ListIterator#set(Object)}.
+     * @param function function to sort list.
+     * @param <T> generic type of list.
+     * @param <U> generic type of property to filter.
+     */
+    public <T, U extends Comparable<? super U>> void sortInPlace(List<T> list, Function<T, U> function) {
+        requireNonNull(list);
+        requireNonNull(function);
+        KeyedSort.writeBack(list, KeyedSort.sorted(list, function, list.size() >= threshold));
+    }
+
+    /**
+     * Returns the k elements with the greatest properties, sorted from the greatest.
+     * Each thread keeps its own k elements, merged at the end.
+     * @param list list.
+     * @param k maximum number of elements.
+     * @param function returns property to compare, must be thread-safe.
+     * @param <T> generic type of list.
+     * @param <U> generic type of property.
+     * @return a list with at most k elements.
+     */
+    public <T, U extends Comparable<? super U>> List<T> topK(List<T> list, int k, Function<T, U> function) {
+        requireNonNull(list);
+        if (list.size() < threshold)
+            return Lists.topK(list, k, function);
+
+        return list.parallelStream().collect(Lists.toTopK(k, function));
+    }
+
+    /**
+     * Returns the k elements with the lowest properties, sorted from the lowest.
+     * Each thread keeps its own k elements, merged at the end.
+     * @param list list.
+     * @param k maximum number of elements.
+     * @param function returns property to compare, must be thread-safe.
+     * @param <T> generic type of list.
+     * @param <U> generic type of property.
+     * @return a list with at most k elements.
+     */
+    public <T, U extends Comparable<? super U>> List<T> bottomK(List<T> list, int k, Function<T, U> function) {
+        requireNonNull(list);
+        if (list.size() < threshold)
+            return Lists.bottomK(list, k, function);
+
+        return list.parallelStream().collect(Lists.toBottomK(k, function));
+    }
+
+    private <V> Stream<V> stream(List<V> list) {
+        return list.size() < threshold ? list.stream() : list.parallelStream();
+    }
+}
@@ -0,0 +1,256 @@
+package com.felix.common.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Class that contains methods to filter objects in a {@link Set} by ranges of keys.
+ * The keys are extracted once by the comparison function and kept in a sorted array,
+ * so every query is a binary search, O(log n) plus the number of returned elements.
+ * The set is read once when the comparison function is informed, later changes to it are not reflected.
+ */
+public class SortedSetFilter<T, S> {
+
+    private final Set<T> set;
+    private Comparator<? super S> comparator;
+    private Object[] keys;
+    private Object[] elements;
+
+    private SortedSetFilter(Set<T> set) {
+        this.set = set;
+    }
+
+    private SortedSetFilter(Set<T> set, Function<T, S> compareFunction, Comparator<? super S> comparator) {
+        this.set = set;
+        this.comparator = comparator;
+
+        Object[][] entries = new Object[set.size()][];
+        int i = 0;
+        for (T element : set) {
+            entries[i++] = new Object[]{requireNonNull(compareFunction.apply(element), "Key is null."), element};
+        }
+        Arrays.sort(entries, (a, b) -> comparator.compare(key(a[0]), key(b[0])));
+
+        this.keys = new Object[entries.length];
+        this.elements = new Object[entries.length];
+        for (i = 0; i < entries.length; i++) {
+            keys[i] = entries[i][0];
+            elements[i] = entries[i][1];
+        }
+    }
+
+    /**
+     * Receive a set of elements to filtrate.
+     * @param set set of elements to filtrate.
+     * @param <T> generic type of set.
+     * @return instance of {@link SortedSetFilter}.
+     */
+    public static <T> SortedSetFilter<T, ?> of(Set<T> set) {
+        return new SortedSetFilter<>(requireNonNull(set, "Set is null."));
+    }
+
+    /**
+     * Informs the function to compare elements in set, keys are sorted by natural order.
+     * @param compareFunction comparison function.
+     * @param <U> generic type of element to filter.
+     * @return this.
+     */
+    public <U extends Comparable<? super U>> SortedSetFilter<T, U> compareWith(Function<T, U> compareFunction) {
+        return compareWith(compareFunction, Comparator.naturalOrder());
+    }
+
+    /**
+     * Informs the function to compare elements in set, keys are sorted by comparator.
+     * @param compareFunction comparison function.
+     * @param comparator comparator of keys.
+     * @param <U> generic type of element to filter.
+     * @return this.
+     */
+    public <U> SortedSetFilter<T, U> compareWith(Function<T, U> compareFunction, Comparator<? super U> comparator) {
+        requireNonNull(compareFunction, "Compare function is null.");
+        requireNonNull(comparator, "Comparator is null.");
+        return new SortedSetFilter<>(this.set, compareFunction, comparator);
+    }
+
+    /**
+     * Informs many functions to compare elements in set, creating a composite index.
+     * Use {@link CompositeKey#of(Object...)} to create the filter objects.
+     * @param compareFunctions comparison functions, in order of relevance.
+     * @return this.
+     */
+    @SafeVarargs
+    public final SortedSetFilter<T, CompositeKey> compareWithAll(Function<T, ?>... compareFunctions) {
+        requireNonNull(compareFunctions, "Compare functions is null.");
+        List<Function<T, ?>> functions = new ArrayList<>(compareFunctions.length);
+        for (Function<T, ?> function : compareFunctions) {
+            functions.add(function);
+        }
+        return compareWith(t -> {
+            Object[] values = new Object[functions.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = functions.get(i).apply(t);
+            }
+            return CompositeKey.of(values);
+        });
+    }
+
+    /**
+     * Returns the first element with key equals to filter object.
+     * @param obj filter object.
+     * @return object in set if exists.
+     */
+    public Optional<T> next(S obj) {
+        int i = lowerBound(obj);
+        return i < keys.length && comparator.compare(key(keys[i]), obj) == 0 ? Optional.of(element(i)) : Optional.empty();
+    }
+
+    /**
+     * Returns all elements with key equals to filter object.
+     * @param obj filter object.
+     * @return elements sorted by key.
+     */
+    public List<T> all(S obj) {
+        return slice(lowerBound(obj), upperBound(obj));
+    }
+
+    /**
+     * Returns elements with key between from, inclusive, and to, exclusive.
+     * @param from lowest key.
+     * @param to highest key.
+     * @return elements sorted by key.
+     */
+    public List<T> range(S from, S to) {
+        return range(from, true, to, false);
+    }
+
+    /**
+     * Returns elements with key between from and to.
+     * @param from lowest key.
+     * @param fromInclusive true if elements with key equals to from are returned.
+     * @param to highest key.
+     * @param toInclusive true if elements with key equals to to are returned.
+     * @return elements sorted by key.
+     */
+    public List<T> range(S from, boolean fromInclusive, S to, boolean toInclusive) {
+        requireNonNull(from, "From is null.");
+        requireNonNull(to, "To is null.");
+        if (comparator.compare(from, to) > 0)
+            throw new IllegalArgumentException("From is after to.");
+
+        int start = fromInclusive ? lowerBound(from) : upperBound(from);
+        int end = toInclusive ? upperBound(to) : lowerBound(to);
+        return slice(start, Math.max(start, end));
+    }
+
+    /**
+     * Returns the element with the greatest key less than or equal to filter object.
+     * @param obj filter object.
+     * @return object in set if exists.
+     */
+    public Optional<T> floor(S obj) {
+        int i = upperBound(obj) - 1;
+        return i >= 0 ? Optional.of(element(i)) : Optional.empty();
+    }
+
+    /**
+     * Returns the element with the least key greater than or equal to filter object.
+     * @param obj filter object.
+     * @return object in set if exists.
+     */
+    public Optional<T> ceiling(S obj) {
+        int i = lowerBound(obj);
+        return i < keys.length ? Optional.of(element(i)) : Optional.empty();
+    }
+
+    /**
+     * Returns elements with key starting with prefix.
+     * For {@link CharSequence} keys the key must start with prefix, for {@link CompositeKey} keys
+     * the prefix must have the first values of key, other keys must be equal to prefix.
+     * Keys must be sorted by natural order, because other comparators don't keep the keys with the same prefix
+     * together.
+     * @param prefix prefix of keys.
+     * @return elements sorted by key.
+     * @throws IllegalStateException if keys are sorted by a comparator other than natural order.
+     */
+    public List<T> prefix(S prefix) {
+        if (comparator != Comparator.naturalOrder())
+            throw new IllegalStateException("Prefix queries need keys sorted by natural order.");
+        int start = lowerBound(prefix);
+        int end = start;
+        while (end < keys.length && startsWith(keys[end], prefix)) {
+            end++;
+        }
+        return slice(start, end);
+    }
+
+    /**
+     * Returns the number of elements in filter.
+     * @return number of elements.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    private static boolean startsWith(Object key, Object prefix) {
+        if (key instanceof CharSequence && prefix instanceof CharSequence)
+            return key.toString().startsWith(prefix.toString());
+        if (key instanceof CompositeKey && prefix instanceof CompositeKey)
+            return ((CompositeKey) prefix).isPrefixOf((CompositeKey) key);
+        return key.equals(prefix);
+    }
+
+    private int lowerBound(S obj) {
+        requireNonNull(obj, "Filter object is null.");
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(key(keys[mid]), obj) < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private int upperBound(S obj) {
+        requireNonNull(obj, "Filter object is null.");
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(key(keys[mid]), obj) <= 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private List<T> slice(int start, int end) {
+        if (start >= end)
+            return Collections.emptyList();
+
+        List<T> result = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            result.add(element(i));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private S key(Object key) {
+        return (S) key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int i) {
+        return (T) elements[i];
+    }
+}
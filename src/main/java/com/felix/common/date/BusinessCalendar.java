@@ -0,0 +1,181 @@
+package com.felix.common.date;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Calendar of business days between two dates, excluding weekend days and holidays.
+ * The days are precomputed into a bitmap and a prefix sum of business days, so counting business days
+ * is constant time and adding business days is a binary search.
+ * Dates outside the calendar throw {@link IllegalArgumentException}.
+ */
+public final class BusinessCalendar {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final long firstDay;
+    private final int days;
+    private final long[] bitmap;
+    private final int[] businessDaysBefore;
+
+    private BusinessCalendar(LocalDate from, LocalDate to, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        this.from = from;
+        this.to = to;
+        this.firstDay = from.toEpochDay();
+        this.days = Math.toIntExact(to.toEpochDay() - firstDay + 1);
+        this.bitmap = new long[(days + 63) >>> 6];
+
+        DayOfWeek dayOfWeek = from.getDayOfWeek();
+        for (int i = 0; i < days; i++) {
+            if (!weekend.contains(dayOfWeek))
+                bitmap[i >>> 6] |= 1L << i;
+            dayOfWeek = dayOfWeek.plus(1);
+        }
+        for (LocalDate holiday : holidays) {
+            long day = requireNonNull(holiday, "Holiday is null.").toEpochDay() - firstDay;
+            if (day >= 0 && day < days)
+                bitmap[(int) day >>> 6] &= ~(1L << day);
+        }
+
+        this.businessDaysBefore = new int[days + 1];
+        for (int i = 0; i < days; i++) {
+            businessDaysBefore[i + 1] = businessDaysBefore[i] + (isBusinessDay(i) ? 1 : 0);
+        }
+    }
+
+    /**
+     * Create a calendar with saturday and sunday as weekend.
+     * @param from first date of the calendar.
+     * @param to last date of the calendar.
+     * @param holidays holidays, the ones outside the calendar are ignored.
+     * @return instance of {@link BusinessCalendar}.
+     */
+    public static BusinessCalendar of(LocalDate from, LocalDate to, Collection<LocalDate> holidays) {
+        return of(from, to, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), holidays);
+    }
+
+    /**
+     * Create a calendar.
+     * @param from first date of the calendar.
+     * @param to last date of the calendar.
+     * @param weekend days of week that are not business days.
+     * @param holidays holidays, the ones outside the calendar are ignored.
+     * @return instance of {@link BusinessCalendar}.
+     */
+    public static BusinessCalendar of(LocalDate from, LocalDate to, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        requireNonNull(from, "Start date is null.");
+        requireNonNull(to, "End date is null.");
+        requireNonNull(weekend, "Weekend is null.");
+        requireNonNull(holidays, "Holidays is null.");
+
+        if (from.isAfter(to))
+            throw new IllegalArgumentException("Start date is after end date.");
+        if (to.toEpochDay() - from.toEpochDay() >= Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Calendar is too large.");
+
+        return new BusinessCalendar(from, to, weekend.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekend), holidays);
+    }
+
+    /**
+     * Returns the first date of the calendar.
+     * @return first date.
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the last date of the calendar.
+     * @return last date.
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Returns if the date is a business day.
+     * @param date date of the calendar.
+     * @return true if it is a business day.
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        return isBusinessDay(index(date, false));
+    }
+
+    /**
+     * Returns the number of business days from start, inclusive, to end, exclusive.
+     * The result is negative when end is before start.
+     * @param start date of the calendar.
+     * @param end date of the calendar, or the day after the last date.
+     * @return number of business days.
+     */
+    public int businessDaysBetween(LocalDate start, LocalDate end) {
+        return businessDaysBefore[index(end, true)] - businessDaysBefore[index(start, true)];
+    }
+
+    /**
+     * Returns the business day that is a number of business days after the date, or before if it is negative.
+     * @param date date of the calendar.
+     * @param businessDays number of business days to add.
+     * @return the business day, or the date when the number is zero.
+     */
+    public LocalDate addBusinessDays(LocalDate date, int businessDays) {
+        int index = index(date, false);
+        if (businessDays == 0)
+            return date;
+
+        long rank = businessDays > 0
+                ? (long) businessDaysBefore[index + 1] + businessDays - 1
+                : (long) businessDaysBefore[index] + businessDays;
+        if (rank < 0 || rank >= businessDaysBefore[days])
+            throw new IllegalArgumentException("Result is outside the calendar.");
+        return LocalDate.ofEpochDay(firstDay + businessDay((int) rank));
+    }
+
+    /**
+     * Returns the first business day after the date.
+     * @param date date of the calendar.
+     * @return next business day.
+     */
+    public LocalDate nextBusinessDay(LocalDate date) {
+        return addBusinessDays(date, 1);
+    }
+
+    /**
+     * Returns the last business day before the date.
+     * @param date date of the calendar.
+     * @return previous business day.
+     */
+    public LocalDate previousBusinessDay(LocalDate date) {
+        return addBusinessDays(date, -1);
+    }
+
+    private boolean isBusinessDay(int index) {
+        return (bitmap[index >>> 6] & 1L << index) != 0;
+    }
+
+    private int businessDay(int rank) {
+        int low = 0;
+        int high = days;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (businessDaysBefore[mid + 1] <= rank)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private int index(LocalDate date, boolean allowDayAfter) {
+        requireNonNull(date, "Date is null.");
+        long index = date.toEpochDay() - firstDay;
+        if (index < 0 || index > (allowDayAfter ? days : days - 1))
+            throw new IllegalArgumentException("Date " + date + " is outside the calendar.");
+        return (int) index;
+    }
+}
@@ -0,0 +1,213 @@
+package com.felix.common.date;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Clock whose time is read by a background ticker at a fixed resolution, for code that reads the time many times.
+ * Reads return the values computed by the last tick, without system calls, zone lookups or allocations,
+ * except {@link #date()} that returns a new mutable {@link Date}.
+ * After {@link #close()} the ticker stops and reads compute the current time.
+ */
+public final class CachedClock implements AutoCloseable {
+
+    private final ZoneId zone;
+    private final ZoneOffsetCache offsets;
+    private final long resolutionMillis;
+    private final ScheduledExecutorService ticker;
+    private volatile Tick tick;
+    private volatile boolean closed;
+
+    private CachedClock(long resolutionMillis, ZoneId zone) {
+        this.zone = zone;
+        this.offsets = ZoneOffsetCache.of(zone);
+        this.resolutionMillis = resolutionMillis;
+        this.tick = tick(System.currentTimeMillis(), null);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cached-clock-" + resolutionMillis + "ms");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::update, resolutionMillis, resolutionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Start a clock in the default time zone.
+     * @param resolutionMillis interval between ticks in milliseconds.
+     * @return started clock, close it to stop the ticker.
+     */
+    public static CachedClock start(long resolutionMillis) {
+        return start(resolutionMillis, ZoneConversions.defaultZone());
+    }
+
+    /**
+     * Start a clock in a time zone.
+     * @param resolutionMillis interval between ticks in milliseconds.
+     * @param zone time zone of the local dates.
+     * @return started clock, close it to stop the ticker.
+     */
+    public static CachedClock start(long resolutionMillis, ZoneId zone) {
+        requireNonNull(zone, "Zone is null.");
+        if (resolutionMillis < 1)
+            throw new IllegalArgumentException("Resolution must be at least one millisecond.");
+        return new CachedClock(resolutionMillis, zone);
+    }
+
+    /**
+     * Returns the interval between ticks in milliseconds.
+     * @return resolution in milliseconds.
+     */
+    public long getResolutionMillis() {
+        return resolutionMillis;
+    }
+
+    /**
+     * Returns the time zone of the local dates.
+     * @return time zone.
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Returns the milliseconds since 1970-01-01T00:00:00Z of the last tick.
+     * @return epoch millis.
+     */
+    public long millis() {
+        return current().millis;
+    }
+
+    /**
+     * Returns the instant of the last tick.
+     * @return instance of {@link Instant}.
+     */
+    public Instant instant() {
+        return current().instant;
+    }
+
+    /**
+     * Returns a new {@link Date} with the time of the last tick.
+     * @return instance of {@link Date}.
+     */
+    public Date date() {
+        return new Date(current().millis);
+    }
+
+    /**
+     * Returns the local date of the last tick.
+     * @return instance of {@link LocalDate}.
+     */
+    public LocalDate localDate() {
+        return current().localDate;
+    }
+
+    /**
+     * Returns the local date time of the last tick.
+     * @return instance of {@link LocalDateTime}.
+     */
+    public LocalDateTime localDateTime() {
+        return current().localDateTime;
+    }
+
+    /**
+     * Returns a {@link Clock} that reads this clock, to inject it where a {@link Clock} is expected.
+     * @return instance of {@link Clock}.
+     */
+    public Clock asClock() {
+        return new TickClock(this, zone);
+    }
+
+    /**
+     * Stop the ticker. Later reads compute the current time.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        ticker.shutdownNow();
+        tick = null;
+    }
+
+    private Tick current() {
+        Tick current = tick;
+        return current != null ? current : tick(System.currentTimeMillis(), null);
+    }
+
+    private void update() {
+        if (closed)
+            return;
+        tick = tick(System.currentTimeMillis(), tick);
+        // close() may have cleared the tick while it was computed
+        if (closed)
+            tick = null;
+    }
+
+    private Tick tick(long millis, Tick previous) {
+        if (previous != null && previous.millis == millis)
+            return previous;
+
+        long epochSecond = Math.floorDiv(millis, 1000);
+        ZoneOffset offset = offsets.offset(epochSecond);
+        LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(epochSecond, (int) Math.floorMod(millis, 1000L) * 1_000_000, offset);
+        LocalDate localDate = previous != null && previous.localDate.equals(localDateTime.toLocalDate())
+                ? previous.localDate
+                : localDateTime.toLocalDate();
+        return new Tick(millis, Instant.ofEpochMilli(millis), localDate, localDateTime);
+    }
+
+    private static final class Tick {
+
+        private final long millis;
+        private final Instant instant;
+        private final LocalDate localDate;
+        private final LocalDateTime localDateTime;
+
+        private Tick(long millis, Instant instant, LocalDate localDate, LocalDateTime localDateTime) {
+            this.millis = millis;
+            this.instant = instant;
+            this.localDate = localDate;
+            this.localDateTime = localDateTime;
+        }
+    }
+
+    private static final class TickClock extends Clock {
+
+        private final CachedClock clock;
+        private final ZoneId zone;
+
+        private TickClock(CachedClock clock, ZoneId zone) {
+            this.clock = clock;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            requireNonNull(zone, "Zone is null.");
+            return zone.equals(this.zone) ? this : new TickClock(clock, zone);
+        }
+
+        @Override
+        public long millis() {
+            return clock.millis();
+        }
+
+        @Override
+        public Instant instant() {
+            return clock.instant();
+        }
+    }
+}
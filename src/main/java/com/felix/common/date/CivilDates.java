@@ -0,0 +1,75 @@
+package com.felix.common.date;
+
+/**
+ * Arithmetic of the proleptic ISO calendar on epoch days, without creating objects.
+ * Based on the days_from_civil and civil_from_days algorithms of Howard Hinnant.
+ */
+final class CivilDates {
+
+    static final int SECONDS_PER_DAY = 86_400;
+
+    private static final int DAYS_PER_ERA = 146_097;
+    private static final int DAYS_0000_TO_1970 = 719_468;
+
+    private CivilDates() {
+    }
+
+    static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    static boolean isValid(int year, int month, int day) {
+        return month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month);
+    }
+
+    /**
+     * Returns the date of epoch day packed in a long, read by {@link #year(long)}, {@link #month(long)} and {@link #day(long)}.
+     */
+    static long packedDate(long epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_ERA);
+        long dayOfEra = z - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 16 | month << 8 | day;
+    }
+
+    static int year(long packedDate) {
+        return (int) (packedDate >> 16);
+    }
+
+    static int month(long packedDate) {
+        return (int) (packedDate >> 8) & 0xFF;
+    }
+
+    static int day(long packedDate) {
+        return (int) packedDate & 0xFF;
+    }
+}
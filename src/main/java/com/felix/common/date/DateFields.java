@@ -0,0 +1,137 @@
+package com.felix.common.date;
+
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Class that contains methods to extract the fields of dates from epoch millis, without {@link Calendar}.
+ * The offsets of time zones are cached by period between transitions, and the dates are computed with
+ * arithmetic on epoch days. The fields are the same of {@link Calendar}: where the offsets of {@link ZoneId}
+ * differ from the ones of {@link TimeZone}, before 1900, before the zone left local mean time and from 2037,
+ * and before the Gregorian cutover of 1582, where the fields follow the Julian calendar,
+ * they are read with {@link Calendar}.
+ */
+public final class DateFields {
+
+    private static final long GREGORIAN_CUTOVER = -12_219_292_800_000L;
+    private static final long MILLIS_PER_DAY = CivilDates.SECONDS_PER_DAY * 1000L;
+
+    private DateFields() {
+    }
+
+    /**
+     * Returns the year of epoch millis in the default time zone.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @return year value.
+     */
+    public static int year(long epochMillis) {
+        return year(epochMillis, ZoneConversions.defaultZone());
+    }
+
+    /**
+     * Returns the year of epoch millis in a time zone.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @param zone time zone.
+     * @return year value.
+     */
+    public static int year(long epochMillis, ZoneId zone) {
+        return CivilDates.year(packedDate(epochMillis, zone));
+    }
+
+    /**
+     * Returns the month of epoch millis in the default time zone.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @return month value, start of 1.
+     */
+    public static int month(long epochMillis) {
+        return month(epochMillis, ZoneConversions.defaultZone());
+    }
+
+    /**
+     * Returns the month of epoch millis in a time zone.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @param zone time zone.
+     * @return month value, start of 1.
+     */
+    public static int month(long epochMillis, ZoneId zone) {
+        return CivilDates.month(packedDate(epochMillis, zone));
+    }
+
+    /**
+     * Returns the day of month of epoch millis in the default time zone.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @return day of month.
+     */
+    public static int dayOfMonth(long epochMillis) {
+        return dayOfMonth(epochMillis, ZoneConversions.defaultZone());
+    }
+
+    /**
+     * Returns the day of month of epoch millis in a time zone.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @param zone time zone.
+     * @return day of month.
+     */
+    public static int dayOfMonth(long epochMillis, ZoneId zone) {
+        return CivilDates.day(packedDate(epochMillis, zone));
+    }
+
+    /**
+     * Fill the year, month and day columns with the fields of each epoch millis in the default time zone.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @param years column of years, same length of epochMillis.
+     * @param months column of months, start of 1, same length of epochMillis.
+     * @param days column of days of month, same length of epochMillis.
+     */
+    public static void split(long[] epochMillis, int[] years, int[] months, int[] days) {
+        split(epochMillis, years, months, days, ZoneConversions.defaultZone());
+    }
+
+    /**
+     * Fill the year, month and day columns with the fields of each epoch millis in a time zone.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @param years column of years, same length of epochMillis.
+     * @param months column of months, start of 1, same length of epochMillis.
+     * @param days column of days of month, same length of epochMillis.
+     * @param zone time zone.
+     */
+    public static void split(long[] epochMillis, int[] years, int[] months, int[] days, ZoneId zone) {
+        requireNonNull(epochMillis, "Epoch millis is null.");
+        requireNonNull(years, "Years is null.");
+        requireNonNull(months, "Months is null.");
+        requireNonNull(days, "Days is null.");
+        requireNonNull(zone, "Zone is null.");
+        if (years.length < epochMillis.length || months.length < epochMillis.length || days.length < epochMillis.length)
+            throw new IllegalArgumentException("Columns are smaller than epoch millis.");
+
+        ZoneOffsetCache offsets = ZoneOffsetCache.of(zone);
+        for (int i = 0; i < epochMillis.length; i++) {
+            long packed = packedDate(epochMillis[i], zone, offsets);
+            years[i] = CivilDates.year(packed);
+            months[i] = CivilDates.month(packed);
+            days[i] = CivilDates.day(packed);
+        }
+    }
+
+    private static long packedDate(long epochMillis, ZoneId zone) {
+        requireNonNull(zone, "Zone is null.");
+        return packedDate(epochMillis, zone, ZoneOffsetCache.of(zone));
+    }
+
+    private static long packedDate(long epochMillis, ZoneId zone, ZoneOffsetCache offsets) {
+        if (epochMillis < GREGORIAN_CUTOVER || !offsets.isLegacyCompatible(Math.floorDiv(epochMillis, 1000)))
+            return calendarPackedDate(epochMillis, zone);
+
+        long localMillis = epochMillis + offsets.offsetMillis(epochMillis);
+        return CivilDates.packedDate(Math.floorDiv(localMillis, MILLIS_PER_DAY));
+    }
+
+    private static long calendarPackedDate(long epochMillis, ZoneId zone) {
+        Calendar cal = Calendar.getInstance(TimeZone.getTimeZone(zone));
+        cal.setTimeInMillis(epochMillis);
+        return (long) cal.get(Calendar.YEAR) << 16 | (long) (cal.get(Calendar.MONTH) + 1) << 8 | cal.get(Calendar.DAY_OF_MONTH);
+    }
+}
@@ -0,0 +1,176 @@
+package com.felix.common.date;
+
+import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Cache of formatters by pattern, used by the format and parse methods of {@link Dates}.
+ * {@link DateTimeFormatter} is immutable, so one instance is shared by all threads.
+ * {@link SimpleDateFormat} is not thread-safe, so each thread has its own instances.
+ * Formatters use the default locale and time zone of when they were created, call {@link #clear()} after changing them.
+ */
+public final class DateFormatters {
+
+    /**
+     * Maximum number of patterns cached, beyond this the least recently used pattern is removed.
+     */
+    public static final int MAX_SIZE = 256;
+
+    private static final ConcurrentHashMap<String, CachedFormatter> FORMATTERS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<SimpleDateFormatCache> SIMPLE_DATE_FORMATS = ThreadLocal.withInitial(SimpleDateFormatCache::new);
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+    private static final AtomicLong CLOCK = new AtomicLong();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private DateFormatters() {
+    }
+
+    /**
+     * Returns the {@link DateTimeFormatter} of pattern, created only if isn't cached.
+     * @param pattern pattern of {@link DateTimeFormatter#ofPattern(String)}.
+     * @return instance of {@link DateTimeFormatter}.
+     */
+    public static DateTimeFormatter ofPattern(String pattern) {
+        requireNonNull(pattern, "Format is null.");
+        CachedFormatter cached = FORMATTERS.get(pattern);
+        if (cached != null) {
+            HITS.increment();
+            cached.touch();
+            return cached.formatter;
+        }
+
+        MISSES.increment();
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+        if (FORMATTERS.size() >= MAX_SIZE)
+            removeLeastRecentlyUsed();
+        FORMATTERS.putIfAbsent(pattern, new CachedFormatter(formatter));
+        return formatter;
+    }
+
+    private static void removeLeastRecentlyUsed() {
+        Map.Entry<String, CachedFormatter> eldest = null;
+        for (Map.Entry<String, CachedFormatter> entry : FORMATTERS.entrySet()) {
+            if (eldest == null || entry.getValue().lastUsed < eldest.getValue().lastUsed)
+                eldest = entry;
+        }
+        if (eldest != null)
+            FORMATTERS.remove(eldest.getKey(), eldest.getValue());
+    }
+
+    /**
+     * Returns the {@link SimpleDateFormat} of pattern owned by current thread.
+     * The instance must not be shared with other threads nor modified.
+     * @param pattern pattern of {@link SimpleDateFormat}.
+     * @return instance of {@link SimpleDateFormat}.
+     */
+    static SimpleDateFormat simpleDateFormat(String pattern) {
+        requireNonNull(pattern, "Format is null.");
+        return SIMPLE_DATE_FORMATS.get().get(pattern);
+    }
+
+    /**
+     * Returns the number of requests answered by a cached formatter.
+     * @return number of hits.
+     */
+    public static long hits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Returns the number of requests that created a formatter.
+     * @return number of misses.
+     */
+    public static long misses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Remove all cached formatters and reset the counters.
+     */
+    public static void clear() {
+        GENERATION.incrementAndGet();
+        FORMATTERS.clear();
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    /**
+     * Shared formatter with the time of its last use, counted in formatters created, so hits only write it
+     * when a formatter was created since the previous hit.
+     */
+    private static final class CachedFormatter {
+
+        private final DateTimeFormatter formatter;
+        private volatile long lastUsed;
+
+        CachedFormatter(DateTimeFormatter formatter) {
+            this.formatter = formatter;
+            this.lastUsed = CLOCK.incrementAndGet();
+        }
+
+        void touch() {
+            long now = CLOCK.get();
+            if (lastUsed != now)
+                lastUsed = now;
+        }
+    }
+
+    private static final class SimpleDateFormatCache {
+
+        private final Map<String, CachedSimpleDateFormat> formats = new LinkedHashMap<String, CachedSimpleDateFormat>(16, .75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSimpleDateFormat> eldest) {
+                return size() > MAX_SIZE;
+            }
+        };
+        private int generation = GENERATION.get();
+
+        SimpleDateFormat get(String pattern) {
+            int current = GENERATION.get();
+            if (generation != current) {
+                formats.clear();
+                generation = current;
+            }
+
+            CachedSimpleDateFormat cached = formats.get(pattern);
+            if (cached == null) {
+                MISSES.increment();
+                cached = new CachedSimpleDateFormat(new SimpleDateFormat(pattern));
+                formats.put(pattern, cached);
+            } else {
+                HITS.increment();
+                cached.reset();
+            }
+            return cached.format;
+        }
+    }
+
+    /**
+     * Parsing a text with a time zone changes the time zone of a {@link SimpleDateFormat}, so it is restored before reuse.
+     */
+    private static final class CachedSimpleDateFormat {
+
+        private final SimpleDateFormat format;
+        private final TimeZone timeZone;
+
+        CachedSimpleDateFormat(SimpleDateFormat format) {
+            this.format = format;
+            this.timeZone = format.getTimeZone();
+        }
+
+        void reset() {
+            if (format.getTimeZone() != timeZone)
+                format.setTimeZone(timeZone);
+        }
+    }
+}
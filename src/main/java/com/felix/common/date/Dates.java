@@ -1,18 +1,16 @@
 package com.felix.common.date;
 
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
-import java.util.Calendar;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.function.LongFunction;
-import java.util.stream.Collectors;
 import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -65,8 +63,18 @@ public class Dates {
      * @return instance of {@link Date}.
      */
     public static Date toDate(LocalDate localDate) {
+        return toDate(localDate, ZoneConversions.defaultZone());
+    }
+
+    /**
+     * Convert a {@link LocalDate} to {@link Date}, at the start of day in a time zone.
+     * @param localDate {@link LocalDate} to conversion.
+     * @param zone time zone.
+     * @return instance of {@link Date}.
+     */
+    public static Date toDate(LocalDate localDate, ZoneId zone) {
         requireNonNull(localDate, "localDate is null.");
-        return Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        return new Date(ZoneConversions.toEpochMillis(localDate, zone));
     }
 
     /**
@@ -75,8 +83,18 @@ public class Dates {
      * @return instance of {@link Date}.
      */
     public static Date toDate(LocalDateTime localDateTime) {
+        return toDate(localDateTime, ZoneConversions.defaultZone());
+    }
+
+    /**
+     * Convert a {@link LocalDateTime} to {@link Date} in a time zone.
+     * @param localDateTime {@link LocalDateTime} to conversion.
+     * @param zone time zone.
+     * @return instance of {@link Date}.
+     */
+    public static Date toDate(LocalDateTime localDateTime, ZoneId zone) {
         requireNonNull(localDateTime, "localDateTime is null.");
-        return Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant());
+        return new Date(ZoneConversions.toEpochMillis(localDateTime, zone));
     }
 
     /**
@@ -86,9 +104,7 @@ public class Dates {
      */
     public static int getDayOfMonth(Date date) {
         requireNonNull(date, "Date is null.");
-        Calendar cal = Calendar.getInstance();
-        cal.setTime(date);
-        return cal.get(Calendar.DAY_OF_MONTH);
+        return DateFields.dayOfMonth(date.getTime());
     }
 
     /**
@@ -98,9 +114,7 @@ public class Dates {
      */
     public static int getMonth(Date date) {
         requireNonNull(date, "Date is null.");
-        Calendar cal = Calendar.getInstance();
-        cal.setTime(date);
-        return cal.get(Calendar.MONTH) + 1;
+        return DateFields.month(date.getTime());
     }
 
     /**
@@ -110,9 +124,7 @@ public class Dates {
      */
     public static int getYear(Date date) {
         requireNonNull(date, "Date is null.");
-        Calendar cal = Calendar.getInstance();
-        cal.setTime(date);
-        return cal.get(Calendar.YEAR);
+        return DateFields.year(date.getTime());
     }
 
     /**
@@ -121,8 +133,18 @@ public class Dates {
      * @return instance of {@link LocalDate}.
      */
     public static LocalDate toLocalDate(Date date) {
+        return toLocalDate(date, ZoneConversions.defaultZone());
+    }
+
+    /**
+     * Convert a {@link Date} to {@link LocalDate} in a time zone.
+     * @param date date to conversion.
+     * @param zone time zone.
+     * @return instance of {@link LocalDate}.
+     */
+    public static LocalDate toLocalDate(Date date, ZoneId zone) {
         requireNonNull(date, "Date is null.");
-        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+        return ZoneConversions.toLocalDate(date.getTime(), zone);
     }
 
     /**
@@ -131,8 +153,18 @@ public class Dates {
      * @return instance of {@link LocalDateTime}.
      */
     public static LocalDateTime toLocalDateTime(Date date) {
+        return toLocalDateTime(date, ZoneConversions.defaultZone());
+    }
+
+    /**
+     * Convert a {@link Date} to {@link LocalDateTime} in a time zone.
+     * @param date date to conversion.
+     * @param zone time zone.
+     * @return instance of {@link LocalDateTime}.
+     */
+    public static LocalDateTime toLocalDateTime(Date date, ZoneId zone) {
         requireNonNull(date, "Date is null.");
-        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+        return ZoneConversions.toLocalDateTime(date.getTime(), zone);
     }
 
     /**
@@ -144,7 +176,7 @@ public class Dates {
     public static String format(Date date, String format) {
         requireNonNull(date, "Date is null.");
         requireNonNull(format, "Format is null.");
-        return new SimpleDateFormat(format).format(date);
+        return DateFormatters.simpleDateFormat(format).format(date);
     }
 
     /**
@@ -156,7 +188,7 @@ public class Dates {
     public static String format(LocalDate date, String format) {
         requireNonNull(date, "Date is null.");
         requireNonNull(format, "Format is null.");
-        return date.format(DateTimeFormatter.ofPattern(format));
+        return date.format(DateFormatters.ofPattern(format));
     }
 
     /**
@@ -168,7 +200,7 @@ public class Dates {
     public static String format(LocalDateTime date, String format) {
         requireNonNull(date, "Date is null.");
         requireNonNull(format, "Format is null.");
-        return date.format(DateTimeFormatter.ofPattern(format));
+        return date.format(DateFormatters.ofPattern(format));
     }
 
     /**
@@ -180,50 +212,163 @@ public class Dates {
     public static Date parseDate(String date, String format) {
         requireNonNull(date, "Date is null.");
         requireNonNull(format, "Format is null.");
+
+        long epochMillis = parseIso(date, format);
+        if (epochMillis != IsoDateParser.INVALID)
+            return new Date(epochMillis);
+
         try {
-            return new SimpleDateFormat(format).parse(date);
+            return DateFormatters.simpleDateFormat(format).parse(date);
         } catch (ParseException e) {
             throw new IllegalArgumentException("Invalid format.");
         }
     }
 
+    /**
+     * Parse the fixed-width ISO patterns without {@link java.text.SimpleDateFormat}.
+     * Dates before the zone left local mean time, before 1900 and from 2037 are left to it because
+     * {@link java.util.TimeZone} has other offsets for them.
+     */
+    private static long parseIso(String date, String format) {
+        long localEpochSecond;
+        if (IsoDateParser.DATE_TIME_PATTERN.equals(format))
+            localEpochSecond = IsoDateParser.parseLocalEpochSecond(date);
+        else if (IsoDateParser.DATE_PATTERN.equals(format))
+            localEpochSecond = toEpochSecond(IsoDateParser.parseEpochDay(date));
+        else
+            return IsoDateParser.INVALID;
+
+        ZoneId zone = ZoneConversions.defaultZone();
+        if (localEpochSecond == IsoDateParser.INVALID
+                || !ZoneOffsetCache.of(zone).isLegacyCompatible(localEpochSecond))
+            return IsoDateParser.INVALID;
+
+        return IsoDateParser.toEpochMillis(localEpochSecond, zone);
+    }
+
+    private static long toEpochSecond(long epochDay) {
+        return epochDay == IsoDateParser.INVALID ? IsoDateParser.INVALID : epochDay * CivilDates.SECONDS_PER_DAY;
+    }
+
     /**
      * Returns a list of {@link LocalDate} between start and end date.
      * @param start start date.
      * @param end end date.
-     * @param chrono type of interval(Days, Months, Years).
+     * @param chrono type of interval(Days, Weeks, Months, Years...).
      * @return a list of {@link LocalDate} by interval.
      */
     public static List<LocalDate> getInterval(LocalDate start, LocalDate end, ChronoUnit chrono) {
-        requireNonNull(start, "Start date is null.");
-        requireNonNull(end, "End date is null.");
-        requireNonNull(chrono, "ChronoUnit is null.");
-
-        if (start.isAfter(end))
-            throw new IllegalArgumentException("Start date is after end date.");
-
-        LongFunction<LocalDate> incrementDate = i -> {
-            switch (chrono) {
-                case DAYS: return start.plusDays(i);
-                case MONTHS: return start.plusMonths(i);
-                case YEARS: return start.plusYears(i);
-                default: return null;
-            }
-        };
-
-        return LongStream.range(0, chrono.between(start, end) + 1)
-                .mapToObj(incrementDate)
-                .collect(Collectors.toList());
+        return new ArrayList<>(getIntervalView(start, end, chrono));
     }
 
     /**
      * Returns a list of {@link LocalDateTime} between start and end date.
      * @param start start date.
      * @param end end date.
-     * @param chrono type of interval(Days, Months, Years, Hours, Minutes, Seconds).
+     * @param chrono type of interval(Days, Months, Years, Hours, Minutes, Seconds, Millis...).
      * @return a list of {@link LocalDateTime} by interval.
      */
     public static List<LocalDateTime> getInterval(LocalDateTime start, LocalDateTime end, ChronoUnit chrono) {
+        return new ArrayList<>(getIntervalView(start, end, chrono));
+    }
+
+    /**
+     * Returns a read-only list of {@link LocalDate} between start and end date, that computes each date when it is read.
+     * @param start start date.
+     * @param end end date.
+     * @param chrono type of interval(Days, Weeks, Months, Years...).
+     * @return a list of {@link LocalDate} by interval.
+     */
+    public static List<LocalDate> getIntervalView(LocalDate start, LocalDate end, ChronoUnit chrono) {
+        return new IntervalList<>(start, chrono, intervalSize(start, end, chrono));
+    }
+
+    /**
+     * Returns a read-only list of {@link LocalDateTime} between start and end date, that computes each date when it is read.
+     * @param start start date.
+     * @param end end date.
+     * @param chrono type of interval(Days, Months, Years, Hours, Minutes, Seconds, Millis...).
+     * @return a list of {@link LocalDateTime} by interval.
+     */
+    public static List<LocalDateTime> getIntervalView(LocalDateTime start, LocalDateTime end, ChronoUnit chrono) {
+        return new IntervalList<>(start, chrono, intervalSize(start, end, chrono));
+    }
+
+    /**
+     * Returns a lazy stream of {@link LocalDate} between start and end date.
+     * @param start start date.
+     * @param end end date.
+     * @param chrono type of interval(Days, Weeks, Months, Years...).
+     * @return a stream of {@link LocalDate} by interval.
+     */
+    public static Stream<LocalDate> getIntervalStream(LocalDate start, LocalDate end, ChronoUnit chrono) {
+        return LongStream.range(0, intervalSize(start, end, chrono))
+                .mapToObj(i -> start.plus(i, chrono));
+    }
+
+    /**
+     * Returns a lazy stream of {@link LocalDateTime} between start and end date.
+     * @param start start date.
+     * @param end end date.
+     * @param chrono type of interval(Days, Months, Years, Hours, Minutes, Seconds, Millis...).
+     * @return a stream of {@link LocalDateTime} by interval.
+     */
+    public static Stream<LocalDateTime> getIntervalStream(LocalDateTime start, LocalDateTime end, ChronoUnit chrono) {
+        return LongStream.range(0, intervalSize(start, end, chrono))
+                .mapToObj(i -> start.plus(i, chrono));
+    }
+
+    /**
+     * Returns a lazy stream with the epoch days of the dates between start and end date, without creating dates
+     * for intervals of days or weeks.
+     * @param start start date.
+     * @param end end date.
+     * @param chrono type of interval(Days, Weeks, Months, Years...).
+     * @return a stream of days since 1970-01-01.
+     */
+    public static LongStream getIntervalEpochDays(LocalDate start, LocalDate end, ChronoUnit chrono) {
+        long size = intervalSize(start, end, chrono);
+        long startDay = start.toEpochDay();
+        switch (chrono) {
+            case DAYS: return LongStream.range(0, size).map(i -> startDay + i);
+            case WEEKS: return LongStream.range(0, size).map(i -> startDay + i * 7);
+            default: return LongStream.range(0, size).map(i -> start.plus(i, chrono).toEpochDay());
+        }
+    }
+
+    /**
+     * Returns a lazy stream with the local epoch seconds of the dates between start and end date, the seconds
+     * since 1970-01-01 00:00:00 without time zone, without creating dates for intervals of fixed duration.
+     * @param start start date.
+     * @param end end date.
+     * @param chrono type of interval(Days, Months, Years, Hours, Minutes, Seconds...), at least seconds.
+     * @return a stream of local epoch seconds.
+     */
+    public static LongStream getIntervalEpochSeconds(LocalDateTime start, LocalDateTime end, ChronoUnit chrono) {
+        long size = intervalSize(start, end, chrono);
+        if (chrono.compareTo(ChronoUnit.SECONDS) < 0)
+            throw new IllegalArgumentException("ChronoUnit is smaller than seconds.");
+
+        long startSecond = start.toEpochSecond(ZoneOffset.UTC);
+        if (chrono.compareTo(ChronoUnit.WEEKS) <= 0) {
+            long step = chrono.getDuration().getSeconds();
+            return LongStream.range(0, size).map(i -> startSecond + i * step);
+        }
+        return LongStream.range(0, size).map(i -> start.plus(i, chrono).toEpochSecond(ZoneOffset.UTC));
+    }
+
+    private static long intervalSize(LocalDate start, LocalDate end, ChronoUnit chrono) {
+        requireNonNull(start, "Start date is null.");
+        requireNonNull(end, "End date is null.");
+        requireNonNull(chrono, "ChronoUnit is null.");
+
+        if (start.isAfter(end))
+            throw new IllegalArgumentException("Start date is after end date.");
+
+        return chrono.between(start, end) + 1;
+    }
+
+    private static long intervalSize(LocalDateTime start, LocalDateTime end, ChronoUnit chrono) {
         requireNonNull(start, "Start date is null.");
         requireNonNull(end, "End date is null.");
         requireNonNull(chrono, "ChronoUnit is null.");
@@ -231,20 +376,6 @@ public class Dates {
         if (start.isAfter(end))
             throw new IllegalArgumentException("Start date is after end date.");
 
-        LongFunction<LocalDateTime> incrementDate = i -> {
-            switch (chrono) {
-                case DAYS: return start.plusDays(i);
-                case MONTHS: return start.plusMonths(i);
-                case YEARS: return start.plusYears(i);
-                case HOURS: return start.plusHours(i);
-                case MINUTES: return start.plusMinutes(i);
-                case SECONDS: return start.plusSeconds(i);
-                default: return null;
-            }
-        };
-
-        return LongStream.range(0, chrono.between(start, end) + 1)
-                .mapToObj(incrementDate)
-                .collect(Collectors.toList());
+        return chrono.between(start, end) + 1;
     }
 }
@@ -0,0 +1,162 @@
+package com.felix.common.date;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable index of elements with a validity period, to find the elements valid at a date or overlapping a period.
+ * The periods are closed, the end is included, and a null end means the period has no end.
+ * The elements are sorted by start and kept as an implicit balanced tree that knows the greatest end of each subtree,
+ * so queries take O(min(n, k log n)) for k results, as each result is reached in O(log n) and no subtree is
+ * visited twice. Results are in start order.
+ * @param <T> type of the elements.
+ * @param <C> type of the dates, like {@link java.time.LocalDate} or {@link java.time.LocalDateTime}.
+ */
+public final class IntervalIndex<T, C extends Comparable<? super C>> {
+
+    private final Object[] elements;
+    private final Object[] starts;
+    private final Object[] ends;
+    private final Object[] maxEnds;
+
+    private IntervalIndex(Object[] elements, Object[] starts, Object[] ends) {
+        this.elements = elements;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = new Object[elements.length];
+        if (elements.length > 0)
+            computeMaxEnds(0, elements.length);
+    }
+
+    /**
+     * Create an index of the elements.
+     * @param elements elements to index.
+     * @param start function to get the start of the period of an element, it can't return null.
+     * @param end function to get the end of the period of an element, null if it has no end.
+     * @param <T> type of the elements.
+     * @param <C> type of the dates.
+     * @return instance of {@link IntervalIndex}.
+     */
+    public static <T, C extends Comparable<? super C>> IntervalIndex<T, C> of(Collection<? extends T> elements,
+                                                                          Function<? super T, ? extends C> start,
+                                                                          Function<? super T, ? extends C> end) {
+        requireNonNull(elements, "Elements is null.");
+        requireNonNull(start, "Start function is null.");
+        requireNonNull(end, "End function is null.");
+
+        Object[][] rows = new Object[elements.size()][];
+        int i = 0;
+        for (T element : elements) {
+            C from = requireNonNull(start.apply(element), "Start date is null.");
+            C to = end.apply(element);
+            if (to != null && from.compareTo(to) > 0)
+                throw new IllegalArgumentException("Start date is after end date: " + element + ".");
+            rows[i++] = new Object[]{element, from, to};
+        }
+        Arrays.sort(rows, Comparator.comparing(row -> IntervalIndex.<C>date(row[1])));
+
+        Object[] sortedElements = new Object[rows.length];
+        Object[] starts = new Object[rows.length];
+        Object[] ends = new Object[rows.length];
+        for (i = 0; i < rows.length; i++) {
+            sortedElements[i] = rows[i][0];
+            starts[i] = rows[i][1];
+            ends[i] = rows[i][2];
+        }
+        return new IntervalIndex<>(sortedElements, starts, ends);
+    }
+
+    /**
+     * Returns the number of elements.
+     * @return number of elements.
+     */
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Returns the elements valid at a date.
+     * @param date date.
+     * @return elements whose period contains the date.
+     */
+    public List<T> stab(C date) {
+        List<T> result = new ArrayList<>();
+        forEachOverlapping(date, date, result::add);
+        return result;
+    }
+
+    /**
+     * Returns the elements valid at some date of a period.
+     * @param from start of the period.
+     * @param to end of the period, included.
+     * @return elements whose period overlaps the period.
+     */
+    public List<T> overlapping(C from, C to) {
+        List<T> result = new ArrayList<>();
+        forEachOverlapping(from, to, result::add);
+        return result;
+    }
+
+    /**
+     * Perform an action for each element valid at some date of a period, without collecting them.
+     * @param from start of the period.
+     * @param to end of the period, included.
+     * @param action action to perform.
+     */
+    public void forEachOverlapping(C from, C to, Consumer<? super T> action) {
+        requireNonNull(from, "Start date is null.");
+        requireNonNull(to, "End date is null.");
+        requireNonNull(action, "Action is null.");
+
+        if (from.compareTo(to) > 0)
+            throw new IllegalArgumentException("Start date is after end date.");
+        forEachOverlapping(0, elements.length, from, to, action);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void forEachOverlapping(int low, int high, C from, C to, Consumer<? super T> action) {
+        if (low >= high || endsBefore(maxEnds[(low + high) >>> 1], from))
+            return;
+
+        int mid = (low + high) >>> 1;
+        forEachOverlapping(low, mid, from, to, action);
+        if (IntervalIndex.<C>date(starts[mid]).compareTo(to) > 0)
+            return;
+        if (!endsBefore(ends[mid], from))
+            action.accept((T) elements[mid]);
+        forEachOverlapping(mid + 1, high, from, to, action);
+    }
+
+    private Object computeMaxEnds(int low, int high) {
+        int mid = (low + high) >>> 1;
+        Object max = ends[mid];
+        if (low < mid)
+            max = greatest(max, computeMaxEnds(low, mid));
+        if (mid + 1 < high)
+            max = greatest(max, computeMaxEnds(mid + 1, high));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private static <C extends Comparable<? super C>> Object greatest(Object end, Object other) {
+        if (end == null || other == null)
+            return null;
+        return IntervalIndex.<C>date(end).compareTo(date(other)) >= 0 ? end : other;
+    }
+
+    private static <C extends Comparable<? super C>> boolean endsBefore(Object end, C date) {
+        return end != null && IntervalIndex.<C>date(end).compareTo(date) < 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> C date(Object date) {
+        return (C) date;
+    }
+}
@@ -0,0 +1,37 @@
+package com.felix.common.date;
+
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of the dates of an interval, each date is computed from the start date when it is read.
+ */
+final class IntervalList<T extends Temporal> extends AbstractList<T> implements RandomAccess {
+
+    private final T start;
+    private final ChronoUnit chrono;
+    private final int size;
+
+    IntervalList(T start, ChronoUnit chrono, long size) {
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Interval is too large for a list, use a stream.");
+        this.start = start;
+        this.chrono = chrono;
+        this.size = (int) size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return (T) start.plus(index, chrono);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,186 @@
+package com.felix.common.date;
+
+import java.time.ZoneId;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Parser of dates in the fixed-width patterns {@code yyyy-MM-dd} and {@code yyyy-MM-dd HH:mm:ss},
+ * from {@link CharSequence} or ranges of {@code byte[]} with ASCII text, without creating objects.
+ * Invalid texts are signaled by returning {@link #INVALID} instead of throwing exceptions.
+ */
+public final class IsoDateParser {
+
+    /**
+     * Value returned when the text is not a valid date.
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    /**
+     * Pattern of dates.
+     */
+    public static final String DATE_PATTERN = "yyyy-MM-dd";
+
+    /**
+     * Pattern of dates with time.
+     */
+    public static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    private static final int DATE_LENGTH = 10;
+    private static final int DATE_TIME_LENGTH = 19;
+
+    private IsoDateParser() {
+    }
+
+    /**
+     * Returns the epoch day of a text with pattern {@code yyyy-MM-dd}.
+     * @param text text with only the date.
+     * @return days since 1970-01-01, or {@link #INVALID}.
+     */
+    public static long parseEpochDay(CharSequence text) {
+        requireNonNull(text, "Text is null.");
+        return text.length() == DATE_LENGTH ? parseEpochDay(text, 0) : INVALID;
+    }
+
+    /**
+     * Returns the epoch day of the date with pattern {@code yyyy-MM-dd} starting at offset of text.
+     * @param text text.
+     * @param offset position of the first character of date.
+     * @return days since 1970-01-01, or {@link #INVALID}.
+     */
+    public static long parseEpochDay(CharSequence text, int offset) {
+        requireNonNull(text, "Text is null.");
+        if (offset < 0 || text.length() - offset < DATE_LENGTH)
+            return INVALID;
+
+        int year = digits(text, offset, 4);
+        int month = digits(text, offset + 5, 2);
+        int day = digits(text, offset + 8, 2);
+        if (year < 0 || month < 0 || day < 0 || text.charAt(offset + 4) != '-' || text.charAt(offset + 7) != '-'
+                || !CivilDates.isValid(year, month, day))
+            return INVALID;
+
+        return CivilDates.epochDay(year, month, day);
+    }
+
+    /**
+     * Returns the epoch day of the date with pattern {@code yyyy-MM-dd} starting at offset of bytes.
+     * @param bytes ASCII text.
+     * @param offset position of the first character of date.
+     * @return days since 1970-01-01, or {@link #INVALID}.
+     */
+    public static long parseEpochDay(byte[] bytes, int offset) {
+        requireNonNull(bytes, "Bytes is null.");
+        if (offset < 0 || bytes.length - offset < DATE_LENGTH)
+            return INVALID;
+
+        int year = digits(bytes, offset, 4);
+        int month = digits(bytes, offset + 5, 2);
+        int day = digits(bytes, offset + 8, 2);
+        if (year < 0 || month < 0 || day < 0 || bytes[offset + 4] != '-' || bytes[offset + 7] != '-'
+                || !CivilDates.isValid(year, month, day))
+            return INVALID;
+
+        return CivilDates.epochDay(year, month, day);
+    }
+
+    /**
+     * Returns the local epoch second of a text with pattern {@code yyyy-MM-dd HH:mm:ss},
+     * the seconds since 1970-01-01 00:00:00 without time zone.
+     * @param text text with only the date and time.
+     * @return local epoch second, or {@link #INVALID}.
+     */
+    public static long parseLocalEpochSecond(CharSequence text) {
+        requireNonNull(text, "Text is null.");
+        return text.length() == DATE_TIME_LENGTH ? parseLocalEpochSecond(text, 0) : INVALID;
+    }
+
+    /**
+     * Returns the local epoch second of the date with pattern {@code yyyy-MM-dd HH:mm:ss} starting at offset of text.
+     * @param text text.
+     * @param offset position of the first character of date.
+     * @return local epoch second, or {@link #INVALID}.
+     */
+    public static long parseLocalEpochSecond(CharSequence text, int offset) {
+        requireNonNull(text, "Text is null.");
+        if (offset < 0 || text.length() - offset < DATE_TIME_LENGTH)
+            return INVALID;
+
+        long epochDay = parseEpochDay(text, offset);
+        int hour = digits(text, offset + 11, 2);
+        int minute = digits(text, offset + 14, 2);
+        int second = digits(text, offset + 17, 2);
+        if (epochDay == INVALID || text.charAt(offset + 10) != ' ' || text.charAt(offset + 13) != ':'
+                || text.charAt(offset + 16) != ':')
+            return INVALID;
+
+        return epochSecond(epochDay, hour, minute, second);
+    }
+
+    /**
+     * Returns the local epoch second of the date with pattern {@code yyyy-MM-dd HH:mm:ss} starting at offset of bytes.
+     * @param bytes ASCII text.
+     * @param offset position of the first character of date.
+     * @return local epoch second, or {@link #INVALID}.
+     */
+    public static long parseLocalEpochSecond(byte[] bytes, int offset) {
+        requireNonNull(bytes, "Bytes is null.");
+        if (offset < 0 || bytes.length - offset < DATE_TIME_LENGTH)
+            return INVALID;
+
+        long epochDay = parseEpochDay(bytes, offset);
+        int hour = digits(bytes, offset + 11, 2);
+        int minute = digits(bytes, offset + 14, 2);
+        int second = digits(bytes, offset + 17, 2);
+        if (epochDay == INVALID || bytes[offset + 10] != ' ' || bytes[offset + 13] != ':' || bytes[offset + 16] != ':')
+            return INVALID;
+
+        return epochSecond(epochDay, hour, minute, second);
+    }
+
+    /**
+     * Returns the epoch millis of a text with pattern {@code yyyy-MM-dd HH:mm:ss} in a time zone.
+     * Times that don't exist in the zone are moved forward by the length of the gap,
+     * and times that exist twice take the later offset, like {@link java.text.SimpleDateFormat}.
+     * @param text text with only the date and time.
+     * @param zone time zone of text.
+     * @return milliseconds since 1970-01-01T00:00:00Z, or {@link #INVALID}.
+     */
+    public static long parseEpochMillis(CharSequence text, ZoneId zone) {
+        requireNonNull(zone, "Zone is null.");
+        long localEpochSecond = parseLocalEpochSecond(text);
+        return localEpochSecond == INVALID ? INVALID : toEpochMillis(localEpochSecond, zone);
+    }
+
+    static long toEpochMillis(long localEpochSecond, ZoneId zone) {
+        return ZoneOffsetCache.of(zone).toEpochSecond(localEpochSecond, true) * 1000;
+    }
+
+    private static long epochSecond(long epochDay, int hour, int minute, int second) {
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59)
+            return INVALID;
+        return epochDay * CivilDates.SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+    }
+
+    private static int digits(CharSequence text, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9)
+                return -1;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int digits(byte[] bytes, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9)
+                return -1;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,317 @@
+package com.felix.common.date;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Consecutive time buckets of the same {@link ChronoUnit}, aligned in the local time of a zone.
+ * The starts of the buckets are the dates of {@link Dates#getInterval(LocalDateTime, LocalDateTime, ChronoUnit)},
+ * and each bucket ends at the start of the next one, so the last bucket contains the end date.
+ * The bucket of a timestamp is found in constant time, and aggregations are kept in primitive arrays
+ * indexed by bucket. Timestamps outside the buckets are ignored.
+ */
+public final class TimeBuckets {
+
+    private static final long MILLIS_PER_DAY = CivilDates.SECONDS_PER_DAY * 1000L;
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    private final LocalDateTime start;
+    private final ChronoUnit chrono;
+    private final int size;
+    private final ZoneOffsetCache offsets;
+    private final long startLocalMillis;
+    private final long unitMillis;
+    private final int unitMonths;
+    private final long startMonth;
+    private final long[] boundaries;
+
+    private TimeBuckets(LocalDateTime start, ChronoUnit chrono, int size, ZoneId zone) {
+        this.start = start;
+        this.chrono = chrono;
+        this.size = size;
+        this.offsets = ZoneOffsetCache.of(zone);
+        this.startLocalMillis = localMillis(start);
+        if (chrono.compareTo(ChronoUnit.WEEKS) <= 0) {
+            this.unitMillis = chrono.getDuration().toMillis();
+            this.unitMonths = 0;
+            this.startMonth = 0;
+            this.boundaries = null;
+        } else {
+            this.unitMillis = 0;
+            this.unitMonths = (int) (chrono.getDuration().getSeconds() / ChronoUnit.MONTHS.getDuration().getSeconds());
+            this.startMonth = start.getYear() * 12L + start.getMonthValue() - 1;
+            this.boundaries = new long[size + 1];
+            for (int i = 0; i <= size; i++) {
+                boundaries[i] = localMillis(start.plus(i, chrono));
+            }
+        }
+    }
+
+    /**
+     * Create buckets from start to end in the default time zone.
+     * @param start start of the first bucket.
+     * @param end date contained by the last bucket.
+     * @param chrono length of each bucket, from {@link ChronoUnit#MILLIS} to {@link ChronoUnit#MILLENNIA}.
+     * @return instance of {@link TimeBuckets}.
+     */
+    public static TimeBuckets of(LocalDateTime start, LocalDateTime end, ChronoUnit chrono) {
+        return of(start, end, chrono, ZoneConversions.defaultZone());
+    }
+
+    /**
+     * Create buckets from start to end in a time zone.
+     * @param start start of the first bucket.
+     * @param end date contained by the last bucket.
+     * @param chrono length of each bucket, from {@link ChronoUnit#MILLIS} to {@link ChronoUnit#MILLENNIA}.
+     * @param zone time zone of the local dates.
+     * @return instance of {@link TimeBuckets}.
+     */
+    public static TimeBuckets of(LocalDateTime start, LocalDateTime end, ChronoUnit chrono, ZoneId zone) {
+        requireNonNull(start, "Start date is null.");
+        requireNonNull(end, "End date is null.");
+        requireNonNull(chrono, "ChronoUnit is null.");
+        requireNonNull(zone, "Zone is null.");
+
+        if (chrono.compareTo(ChronoUnit.MILLIS) < 0 || chrono.compareTo(ChronoUnit.MILLENNIA) > 0)
+            throw new IllegalArgumentException("Unsupported ChronoUnit: " + chrono + ".");
+        if (start.isAfter(end))
+            throw new IllegalArgumentException("Start date is after end date.");
+
+        long size = chrono.between(start, end) + 1;
+        if (size > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Too many buckets: " + size + ".");
+        return new TimeBuckets(start, chrono, (int) size, zone);
+    }
+
+    /**
+     * Create buckets from the start of the start date to the end date in a time zone.
+     * @param start date of the first bucket.
+     * @param end date contained by the last bucket.
+     * @param chrono length of each bucket, from {@link ChronoUnit#DAYS} to {@link ChronoUnit#MILLENNIA}.
+     * @param zone time zone of the local dates.
+     * @return instance of {@link TimeBuckets}.
+     */
+    public static TimeBuckets of(LocalDate start, LocalDate end, ChronoUnit chrono, ZoneId zone) {
+        requireNonNull(start, "Start date is null.");
+        requireNonNull(end, "End date is null.");
+        requireNonNull(chrono, "ChronoUnit is null.");
+
+        if (chrono.compareTo(ChronoUnit.DAYS) < 0)
+            throw new IllegalArgumentException("ChronoUnit is smaller than days.");
+        return of(start.atStartOfDay(), end.atStartOfDay(), chrono, zone);
+    }
+
+    /**
+     * Returns the number of buckets.
+     * @return number of buckets.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the length of each bucket.
+     * @return length of each bucket.
+     */
+    public ChronoUnit getChrono() {
+        return chrono;
+    }
+
+    /**
+     * Returns the local start date of a bucket.
+     * @param index index of the bucket.
+     * @return local start date.
+     */
+    public LocalDateTime startOf(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return start.plus(index, chrono);
+    }
+
+    /**
+     * Returns the local start dates of all buckets, computed when they are read.
+     * @return read-only list of start dates.
+     */
+    public List<LocalDateTime> starts() {
+        return new IntervalList<>(start, chrono, size);
+    }
+
+    /**
+     * Returns the index of the bucket that contains the epoch millis.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @return index of the bucket, or -1 if it is outside the buckets.
+     */
+    public int indexOf(long epochMillis) {
+        long localMillis = epochMillis + offsets.offsetMillis(epochMillis);
+        if (localMillis < startLocalMillis)
+            return -1;
+
+        long index;
+        if (boundaries == null) {
+            index = (localMillis - startLocalMillis) / unitMillis;
+        } else {
+            long packedDate = CivilDates.packedDate(Math.floorDiv(localMillis, MILLIS_PER_DAY));
+            long month = CivilDates.year(packedDate) * 12L + CivilDates.month(packedDate) - 1;
+            index = (month - startMonth) / unitMonths;
+            if (index <= size && localMillis < boundaries[(int) index])
+                index--;
+        }
+        return index < size ? (int) index : -1;
+    }
+
+    /**
+     * Returns the index of the bucket that contains the date.
+     * @param date date.
+     * @return index of the bucket, or -1 if it is outside the buckets.
+     */
+    public int indexOf(Date date) {
+        requireNonNull(date, "Date is null.");
+        return indexOf(date.getTime());
+    }
+
+    /**
+     * Count the epoch millis of each bucket. Large arrays are counted in parallel.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @return count of each bucket.
+     */
+    public long[] count(long[] epochMillis) {
+        requireNonNull(epochMillis, "Epoch millis is null.");
+        if (epochMillis.length >= PARALLEL_THRESHOLD) {
+            return Arrays.stream(epochMillis).parallel()
+                    .collect(() -> new long[size], this::increment, TimeBuckets::merge);
+        }
+        long[] counts = new long[size];
+        for (long millis : epochMillis) {
+            increment(counts, millis);
+        }
+        return counts;
+    }
+
+    /**
+     * Count the elements of each bucket.
+     * @param collection elements.
+     * @param timestamp function to get the epoch millis of an element.
+     * @param <T> type of the elements.
+     * @return count of each bucket.
+     */
+    public <T> long[] count(Collection<? extends T> collection, ToLongFunction<? super T> timestamp) {
+        requireNonNull(collection, "Collection is null.");
+        return collection.stream().collect(counting(timestamp));
+    }
+
+    /**
+     * Sum a long value of the elements of each bucket.
+     * @param collection elements.
+     * @param timestamp function to get the epoch millis of an element.
+     * @param value function to get the value of an element.
+     * @param <T> type of the elements.
+     * @return sum of each bucket.
+     */
+    public <T> long[] sumLong(Collection<? extends T> collection, ToLongFunction<? super T> timestamp,
+                              ToLongFunction<? super T> value) {
+        requireNonNull(collection, "Collection is null.");
+        return collection.stream().collect(summingLong(timestamp, value));
+    }
+
+    /**
+     * Sum a double value of the elements of each bucket.
+     * @param collection elements.
+     * @param timestamp function to get the epoch millis of an element.
+     * @param value function to get the value of an element.
+     * @param <T> type of the elements.
+     * @return sum of each bucket.
+     */
+    public <T> double[] sumDouble(Collection<? extends T> collection, ToLongFunction<? super T> timestamp,
+                                  ToDoubleFunction<? super T> value) {
+        requireNonNull(collection, "Collection is null.");
+        return collection.stream().collect(summingDouble(timestamp, value));
+    }
+
+    /**
+     * Returns a {@link Collector} that counts the elements of each bucket.
+     * The partial arrays of parallel streams are merged by adding them.
+     * @param timestamp function to get the epoch millis of an element.
+     * @param <T> type of the elements.
+     * @return instance of {@link Collector}.
+     */
+    public <T> Collector<T, ?, long[]> counting(ToLongFunction<? super T> timestamp) {
+        requireNonNull(timestamp, "Timestamp function is null.");
+        return Collector.of(() -> new long[size],
+                (counts, element) -> increment(counts, timestamp.applyAsLong(element)),
+                TimeBuckets::merge);
+    }
+
+    /**
+     * Returns a {@link Collector} that sums a long value of the elements of each bucket.
+     * The partial arrays of parallel streams are merged by adding them.
+     * @param timestamp function to get the epoch millis of an element.
+     * @param value function to get the value of an element.
+     * @param <T> type of the elements.
+     * @return instance of {@link Collector}.
+     */
+    public <T> Collector<T, ?, long[]> summingLong(ToLongFunction<? super T> timestamp, ToLongFunction<? super T> value) {
+        requireNonNull(timestamp, "Timestamp function is null.");
+        requireNonNull(value, "Value function is null.");
+        return Collector.of(() -> new long[size],
+                (sums, element) -> {
+                    int index = indexOf(timestamp.applyAsLong(element));
+                    if (index >= 0)
+                        sums[index] += value.applyAsLong(element);
+                },
+                TimeBuckets::merge);
+    }
+
+    /**
+     * Returns a {@link Collector} that sums a double value of the elements of each bucket.
+     * The partial arrays of parallel streams are merged by adding them.
+     * @param timestamp function to get the epoch millis of an element.
+     * @param value function to get the value of an element.
+     * @param <T> type of the elements.
+     * @return instance of {@link Collector}.
+     */
+    public <T> Collector<T, ?, double[]> summingDouble(ToLongFunction<? super T> timestamp, ToDoubleFunction<? super T> value) {
+        requireNonNull(timestamp, "Timestamp function is null.");
+        requireNonNull(value, "Value function is null.");
+        return Collector.of(() -> new double[size],
+                (sums, element) -> {
+                    int index = indexOf(timestamp.applyAsLong(element));
+                    if (index >= 0)
+                        sums[index] += value.applyAsDouble(element);
+                },
+                (left, right) -> {
+                    for (int i = 0; i < left.length; i++) {
+                        left[i] += right[i];
+                    }
+                    return left;
+                });
+    }
+
+    private void increment(long[] counts, long epochMillis) {
+        int index = indexOf(epochMillis);
+        if (index >= 0)
+            counts[index]++;
+    }
+
+    private static long[] merge(long[] left, long[] right) {
+        for (int i = 0; i < left.length; i++) {
+            left[i] += right[i];
+        }
+        return left;
+    }
+
+    private static long localMillis(LocalDateTime localDateTime) {
+        return localDateTime.toEpochSecond(ZoneOffset.UTC) * 1000 + localDateTime.getNano() / 1_000_000;
+    }
+}
@@ -0,0 +1,171 @@
+package com.felix.common.date;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Class that contains methods to convert between epoch millis and local dates in a time zone.
+ * The offsets of each zone are cached by period between transitions, so conversions of instants in a
+ * known period are arithmetic only. The default time zone is read once, call {@link #refreshDefaultZone()}
+ * after changing it.
+ */
+public final class ZoneConversions {
+
+    private static final long MILLIS_PER_DAY = CivilDates.SECONDS_PER_DAY * 1000L;
+
+    private static volatile ZoneId defaultZone = ZoneId.systemDefault();
+
+    private ZoneConversions() {
+    }
+
+    /**
+     * Returns the cached default time zone.
+     * @return default time zone.
+     */
+    public static ZoneId defaultZone() {
+        return defaultZone;
+    }
+
+    /**
+     * Read the default time zone again, after it was changed by {@link java.util.TimeZone#setDefault(java.util.TimeZone)}.
+     * Also clears the cache of {@link DateFormatters}, whose formatters use the default time zone.
+     * @return new default time zone.
+     */
+    public static ZoneId refreshDefaultZone() {
+        ZoneId zone = ZoneId.systemDefault();
+        defaultZone = zone;
+        DateFormatters.clear();
+        return zone;
+    }
+
+    /**
+     * Returns the offset of a time zone at epoch millis.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @param zone time zone.
+     * @return offset in seconds.
+     */
+    public static int offsetSeconds(long epochMillis, ZoneId zone) {
+        requireNonNull(zone, "Zone is null.");
+        return ZoneOffsetCache.of(zone).offsetSeconds(Math.floorDiv(epochMillis, 1000));
+    }
+
+    /**
+     * Returns the epoch millis of a local date time in a time zone.
+     * Times that don't exist in the zone are moved forward by the length of the gap,
+     * and times that exist twice take the earlier offset, like {@link LocalDateTime#atZone(ZoneId)}.
+     * @param localDateTime local date time.
+     * @param zone time zone.
+     * @return milliseconds since 1970-01-01T00:00:00Z.
+     */
+    public static long toEpochMillis(LocalDateTime localDateTime, ZoneId zone) {
+        requireNonNull(localDateTime, "localDateTime is null.");
+        requireNonNull(zone, "Zone is null.");
+        return toEpochMillis(localDateTime, ZoneOffsetCache.of(zone));
+    }
+
+    /**
+     * Returns the epoch millis of the start of a local date in a time zone.
+     * @param localDate local date.
+     * @param zone time zone.
+     * @return milliseconds since 1970-01-01T00:00:00Z.
+     */
+    public static long toEpochMillis(LocalDate localDate, ZoneId zone) {
+        requireNonNull(localDate, "localDate is null.");
+        requireNonNull(zone, "Zone is null.");
+        long localEpochSecond = localDate.toEpochDay() * CivilDates.SECONDS_PER_DAY;
+        return ZoneOffsetCache.of(zone).toEpochSecond(localEpochSecond, false) * 1000;
+    }
+
+    /**
+     * Returns the local date time of epoch millis in a time zone.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @param zone time zone.
+     * @return instance of {@link LocalDateTime}.
+     */
+    public static LocalDateTime toLocalDateTime(long epochMillis, ZoneId zone) {
+        requireNonNull(zone, "Zone is null.");
+        return toLocalDateTime(epochMillis, ZoneOffsetCache.of(zone));
+    }
+
+    /**
+     * Returns the local date of epoch millis in a time zone.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @param zone time zone.
+     * @return instance of {@link LocalDate}.
+     */
+    public static LocalDate toLocalDate(long epochMillis, ZoneId zone) {
+        requireNonNull(zone, "Zone is null.");
+        return toLocalDate(epochMillis, ZoneOffsetCache.of(zone));
+    }
+
+    /**
+     * Returns the epoch millis of each local date time in a time zone.
+     * @param localDateTimes local date times.
+     * @param zone time zone.
+     * @return a new array with milliseconds since 1970-01-01T00:00:00Z.
+     */
+    public static long[] toEpochMillis(LocalDateTime[] localDateTimes, ZoneId zone) {
+        requireNonNull(localDateTimes, "localDateTimes is null.");
+        requireNonNull(zone, "Zone is null.");
+        ZoneOffsetCache offsets = ZoneOffsetCache.of(zone);
+        long[] result = new long[localDateTimes.length];
+        for (int i = 0; i < localDateTimes.length; i++) {
+            result[i] = toEpochMillis(requireNonNull(localDateTimes[i], "localDateTime is null."), offsets);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the local date time of each epoch millis in a time zone.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @param zone time zone.
+     * @return a new array of {@link LocalDateTime}.
+     */
+    public static LocalDateTime[] toLocalDateTimes(long[] epochMillis, ZoneId zone) {
+        requireNonNull(epochMillis, "Epoch millis is null.");
+        requireNonNull(zone, "Zone is null.");
+        ZoneOffsetCache offsets = ZoneOffsetCache.of(zone);
+        LocalDateTime[] result = new LocalDateTime[epochMillis.length];
+        for (int i = 0; i < epochMillis.length; i++) {
+            result[i] = toLocalDateTime(epochMillis[i], offsets);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the local date of each epoch millis in a time zone.
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+     * @param zone time zone.
+     * @return a new array of {@link LocalDate}.
+     */
+    public static LocalDate[] toLocalDates(long[] epochMillis, ZoneId zone) {
+        requireNonNull(epochMillis, "Epoch millis is null.");
+        requireNonNull(zone, "Zone is null.");
+        ZoneOffsetCache offsets = ZoneOffsetCache.of(zone);
+        LocalDate[] result = new LocalDate[epochMillis.length];
+        for (int i = 0; i < epochMillis.length; i++) {
+            result[i] = toLocalDate(epochMillis[i], offsets);
+        }
+        return result;
+    }
+
+    private static long toEpochMillis(LocalDateTime localDateTime, ZoneOffsetCache offsets) {
+        long epochSecond = offsets.toEpochSecond(localDateTime.toEpochSecond(ZoneOffset.UTC), false);
+        return epochSecond * 1000 + localDateTime.getNano() / 1_000_000;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis, ZoneOffsetCache offsets) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000);
+        int nanos = (int) Math.floorMod(epochMillis, 1000L) * 1_000_000;
+        return LocalDateTime.ofEpochSecond(epochSecond, nanos, offsets.offset(epochSecond));
+    }
+
+    private static LocalDate toLocalDate(long epochMillis, ZoneOffsetCache offsets) {
+        long localMillis = epochMillis + offsets.offsetMillis(epochMillis);
+        return LocalDate.ofEpochDay(Math.floorDiv(localMillis, MILLIS_PER_DAY));
+    }
+}
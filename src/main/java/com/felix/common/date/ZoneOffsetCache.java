@@ -0,0 +1,129 @@
+package com.felix.common.date;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Offset of a time zone memoized by the period between two transitions, so the offset of an instant
+ * in the same period as the previous lookup is found without querying the {@link ZoneRules}.
+ */
+final class ZoneOffsetCache {
+
+    /**
+     * Offsets differ by at most 36 hours, so a local time whose instant is farther than this from the
+     * transitions of its period exists once and has the offset of the period.
+     */
+    private static final long UNAMBIGUOUS_MARGIN = 36 * 3600;
+
+    /**
+     * {@link java.util.TimeZone} drops the transitions before 1900 and the local mean time of zones,
+     * and approximates the transitions from 2037 with the last rules of each zone.
+     */
+    private static final long LEGACY_TRANSITIONS_FROM = CivilDates.epochDay(1900, 1, 1) * CivilDates.SECONDS_PER_DAY;
+    private static final long LEGACY_TRANSITIONS_TO = CivilDates.epochDay(2037, 1, 1) * CivilDates.SECONDS_PER_DAY;
+
+    private static final ConcurrentHashMap<ZoneId, ZoneOffsetCache> CACHES = new ConcurrentHashMap<>();
+
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private final long legacyCompatibleFrom;
+    private volatile Period period;
+
+    private ZoneOffsetCache(ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.period = new Period(0, 0, ZoneOffset.UTC);
+
+        long from = LEGACY_TRANSITIONS_FROM;
+        if (!rules.getTransitions().isEmpty())
+            from = Math.max(from, rules.getTransitions().get(0).toEpochSecond());
+        this.legacyCompatibleFrom = from + UNAMBIGUOUS_MARGIN;
+    }
+
+    static ZoneOffsetCache of(ZoneId zone) {
+        ZoneOffsetCache cache = CACHES.get(zone);
+        return cache != null ? cache : CACHES.computeIfAbsent(zone, ZoneOffsetCache::new);
+    }
+
+    /**
+     * Returns true if the offsets of this zone around a local epoch second are the same as the ones of
+     * {@link java.util.TimeZone}: after 1900, after the zone left local mean time, and before 2037.
+     */
+    boolean isLegacyCompatible(long localEpochSecond) {
+        return localEpochSecond >= legacyCompatibleFrom && localEpochSecond < LEGACY_TRANSITIONS_TO - UNAMBIGUOUS_MARGIN;
+    }
+
+    ZoneOffset offset(long epochSecond) {
+        Period p = period;
+        if (epochSecond >= p.from && epochSecond < p.to)
+            return p.offset;
+
+        p = compute(epochSecond);
+        period = p;
+        return p.offset;
+    }
+
+    int offsetSeconds(long epochSecond) {
+        return offset(epochSecond).getTotalSeconds();
+    }
+
+    int offsetMillis(long epochMillis) {
+        return offsetSeconds(Math.floorDiv(epochMillis, 1000)) * 1000;
+    }
+
+    /**
+     * Returns the epoch second of a local epoch second in this zone.
+     * Local times in a gap are moved forward by the length of the gap, and local times in an overlap
+     * take the earlier or later offset.
+     */
+    long toEpochSecond(long localEpochSecond, boolean laterOffsetAtOverlap) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Period p = period;
+            long epochSecond = localEpochSecond - p.offset.getTotalSeconds();
+            if (epochSecond - UNAMBIGUOUS_MARGIN >= p.from && epochSecond + UNAMBIGUOUS_MARGIN < p.to)
+                return epochSecond;
+            if (attempt == 0)
+                offset(epochSecond);
+        }
+
+        ZonedDateTime zoned = ZonedDateTime.ofLocal(LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC), zone, null);
+        if (laterOffsetAtOverlap)
+            zoned = zoned.withLaterOffsetAtOverlap();
+        return zoned.toEpochSecond();
+    }
+
+    private Period compute(long epochSecond) {
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        ZoneOffset offset = rules.getOffset(instant);
+        if (rules.isFixedOffset())
+            return new Period(Long.MIN_VALUE, Long.MAX_VALUE, offset);
+
+        ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        long from = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+        long to = next == null ? Long.MAX_VALUE : next.toEpochSecond();
+        if (epochSecond < from || epochSecond >= to)
+            return new Period(epochSecond, epochSecond + 1, offset);
+
+        return new Period(from, to, offset);
+    }
+
+    private static final class Period {
+
+        final long from;
+        final long to;
+        final ZoneOffset offset;
+
+        Period(long from, long to, ZoneOffset offset) {
+            this.from = from;
+            this.to = to;
+            this.offset = offset;
+        }
+    }
+}
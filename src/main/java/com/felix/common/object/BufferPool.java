@@ -0,0 +1,95 @@
+package com.felix.common.object;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Pool of {@link ByteBuffer} with one buffer per thread, to reuse serialization buffers without synchronization.
+ * Buffers larger than the maximum capacity are not kept, so a single large object doesn't pin a large buffer.
+ */
+public final class BufferPool {
+
+    static final BufferPool DEFAULT = new BufferPool(4 * 1024, 1024 * 1024, false);
+
+    private final int initialCapacity;
+    private final int maxCapacity;
+    private final boolean direct;
+    private final ThreadLocal<ByteBuffer[]> buffers = ThreadLocal.withInitial(() -> new ByteBuffer[1]);
+
+    private BufferPool(int initialCapacity, int maxCapacity, boolean direct) {
+        this.initialCapacity = initialCapacity;
+        this.maxCapacity = maxCapacity;
+        this.direct = direct;
+    }
+
+    /**
+     * Create a pool.
+     * @param initialCapacity capacity of new buffers.
+     * @param maxCapacity capacity of the largest buffer kept by the pool.
+     * @param direct true to use direct buffers, false to use heap buffers.
+     * @return instance of {@link BufferPool}.
+     */
+    public static BufferPool of(int initialCapacity, int maxCapacity, boolean direct) {
+        if (initialCapacity < 1)
+            throw new IllegalArgumentException("Initial capacity must be positive.");
+        if (maxCapacity < initialCapacity)
+            throw new IllegalArgumentException("Max capacity is lower than initial capacity.");
+        return new BufferPool(initialCapacity, maxCapacity, direct);
+    }
+
+    /**
+     * Returns the capacity of new buffers.
+     * @return initial capacity.
+     */
+    public int getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    /**
+     * Returns the capacity of the largest buffer kept by the pool.
+     * @return max capacity.
+     */
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    /**
+     * Returns true if the pool uses direct buffers.
+     * @return true if direct.
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * Take a cleared buffer of the current thread, or allocate one if it's in use or too small.
+     * @param minCapacity minimum capacity of the buffer.
+     * @return buffer to return with {@link #release(ByteBuffer)}.
+     */
+    public ByteBuffer acquire(int minCapacity) {
+        ByteBuffer[] slot = buffers.get();
+        ByteBuffer buffer = slot[0];
+        if (buffer != null && buffer.capacity() >= minCapacity) {
+            slot[0] = null;
+            buffer.clear();
+            return buffer;
+        }
+        return allocate(Math.max(initialCapacity, minCapacity));
+    }
+
+    /**
+     * Return a buffer to the pool of the current thread. The buffer must not be used after it.
+     * @param buffer buffer taken from {@link #acquire(int)}, or grown from it.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.capacity() > maxCapacity || buffer.isDirect() != direct || buffer.isReadOnly())
+            return;
+
+        ByteBuffer[] slot = buffers.get();
+        if (slot[0] == null || slot[0].capacity() < buffer.capacity())
+            slot[0] = buffer;
+    }
+
+    ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+}
@@ -0,0 +1,54 @@
+package com.felix.common.object;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link InputStream} that reads a {@link ByteBuffer} from its position to its limit, without copying it.
+ * Reading advances the position of the buffer.
+ */
+public final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Create a stream that reads a buffer.
+     * @param buffer buffer to read.
+     */
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = requireNonNull(buffer, "Buffer is null.");
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || length > bytes.length - offset)
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length + ", Size: " + bytes.length);
+        if (length == 0)
+            return 0;
+        if (!buffer.hasRemaining())
+            return -1;
+
+        int count = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) {
+        int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
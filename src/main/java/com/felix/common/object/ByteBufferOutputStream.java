@@ -0,0 +1,80 @@
+package com.felix.common.object;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link OutputStream} that writes to a {@link ByteBuffer} from its position.
+ * A fixed stream throws {@link BufferOverflowException} when the buffer is full,
+ * a growable stream replaces the buffer by a larger one of the same kind.
+ */
+public final class ByteBufferOutputStream extends OutputStream {
+
+    private ByteBuffer buffer;
+    private final boolean growable;
+
+    private ByteBufferOutputStream(ByteBuffer buffer, boolean growable) {
+        this.buffer = buffer;
+        this.growable = growable;
+    }
+
+    /**
+     * Create a stream that writes to a buffer and throws {@link BufferOverflowException} when it is full.
+     * @param buffer buffer to write to.
+     * @return instance of {@link ByteBufferOutputStream}.
+     */
+    public static ByteBufferOutputStream fixed(ByteBuffer buffer) {
+        return new ByteBufferOutputStream(requireNonNull(buffer, "Buffer is null."), false);
+    }
+
+    /**
+     * Create a stream that writes to a buffer and replaces it by a larger one when it is full.
+     * @param buffer initial buffer to write to.
+     * @return instance of {@link ByteBufferOutputStream}.
+     */
+    public static ByteBufferOutputStream growable(ByteBuffer buffer) {
+        return new ByteBufferOutputStream(requireNonNull(buffer, "Buffer is null."), true);
+    }
+
+    /**
+     * Returns the buffer written, with the position after the last byte written.
+     * It is a different buffer than the initial one if the stream grew.
+     * @return current buffer.
+     */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureRemaining(1);
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || length > bytes.length - offset)
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length + ", Size: " + bytes.length);
+        ensureRemaining(length);
+        buffer.put(bytes, offset, length);
+    }
+
+    private void ensureRemaining(int length) {
+        if (buffer.remaining() >= length)
+            return;
+        if (!growable)
+            throw new BufferOverflowException();
+
+        long required = (long) buffer.position() + length;
+        if (required > Integer.MAX_VALUE - 8)
+            throw new OutOfMemoryError("Required buffer is too large: " + required + ".");
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, buffer.capacity() * 2L));
+        ByteBuffer larger = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        buffer.flip();
+        larger.put(buffer);
+        buffer = larger;
+    }
+}
@@ -0,0 +1,29 @@
+package com.felix.common.object;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Binary format used by {@link Objects#serialize(Object, Codec)} and {@link Objects#deserialize(byte[], Codec)}.
+ * Implementations must be thread-safe.
+ */
+public interface Codec {
+
+    /**
+     * Write an object to a stream.
+     * @param obj object to write, it can be null.
+     * @param out stream to write to, it is not closed.
+     * @throws IOException if the stream fails or the object can't be written.
+     */
+    void write(Object obj, OutputStream out) throws IOException;
+
+    /**
+     * Read an object written by {@link #write(Object, OutputStream)} from a stream.
+     * @param in stream to read from, it is not closed.
+     * @return object read.
+     * @throws IOException if the stream fails or the data is invalid.
+     * @throws ClassNotFoundException if the class of some object is not found.
+     */
+    Object read(InputStream in) throws IOException, ClassNotFoundException;
+}
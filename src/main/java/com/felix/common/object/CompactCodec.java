@@ -0,0 +1,740 @@
+package com.felix.common.object;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Codec} with a compact format that doesn't need {@link java.io.Serializable}.
+ * Registered classes are written as a small id instead of a class descriptor, other classes are written by name
+ * once per payload, and integral numbers are written as variable length integers.
+ * The fields of each class are read once with reflection and cached. Transient fields are not written.
+ * Both sides must register the same classes in the same order and have the same fields,
+ * and the codec must only read trusted data, because it creates instances without running constructors.
+ * <p>
+ * Besides application classes, the supported types are:
+ * <ul>
+ *     <li>boxed primitives, {@link String}, {@link BigDecimal} and {@link BigInteger};</li>
+ *     <li>{@link Date}, {@link LocalDate}, {@link LocalDateTime}, {@link Instant} and {@link UUID};</li>
+ *     <li>enums;</li>
+ *     <li>{@link ArrayList}, {@link LinkedList}, {@link HashSet}, {@link LinkedHashSet}, {@link HashMap}
+ *     and {@link LinkedHashMap};</li>
+ *     <li>{@link TreeSet} and {@link TreeMap} in natural order, without a comparator;</li>
+ *     <li>arrays of any supported type or primitive.</li>
+ * </ul>
+ * Other JDK classes, such as immutable or synchronized collections, other {@code java.time} types,
+ * and classes with custom serialization methods throw {@link IllegalArgumentException} when written.
+ * Convert them to a supported type, or use {@link JavaSerializationCodec}.
+ */
+public final class CompactCodec implements Codec {
+
+    private static final int NULL = 0;
+    private static final int REFERENCE = 1;
+    private static final int NEW_CLASS = 2;
+    private static final int TRUE = 3;
+    private static final int FALSE = 4;
+    private static final int BYTE = 5;
+    private static final int SHORT = 6;
+    private static final int CHAR = 7;
+    private static final int INT = 8;
+    private static final int LONG = 9;
+    private static final int FLOAT = 10;
+    private static final int DOUBLE = 11;
+    private static final int STRING = 12;
+    private static final int BIG_DECIMAL = 13;
+    private static final int BIG_INTEGER = 14;
+    private static final int DATE = 15;
+    private static final int LOCAL_DATE = 16;
+    private static final int LOCAL_DATE_TIME = 17;
+    private static final int INSTANT = 18;
+    private static final int UUID_VALUE = 19;
+    private static final int ENUM = 20;
+    private static final int ARRAY_LIST = 21;
+    private static final int LINKED_LIST = 22;
+    private static final int HASH_SET = 23;
+    private static final int LINKED_HASH_SET = 24;
+    private static final int TREE_SET = 25;
+    private static final int HASH_MAP = 26;
+    private static final int LINKED_HASH_MAP = 27;
+    private static final int TREE_MAP = 28;
+    private static final int BYTE_ARRAY = 29;
+    private static final int INT_ARRAY = 30;
+    private static final int LONG_ARRAY = 31;
+    private static final int DOUBLE_ARRAY = 32;
+    private static final int OBJECT_ARRAY = 33;
+    private static final int PRIMITIVE_ARRAY = 34;
+    private static final int CLASS_BASE = 40;
+
+    private static final Map<Class<?>, Integer> TAGS = new HashMap<>();
+
+    static {
+        TAGS.put(Byte.class, BYTE);
+        TAGS.put(Short.class, SHORT);
+        TAGS.put(Character.class, CHAR);
+        TAGS.put(Integer.class, INT);
+        TAGS.put(Long.class, LONG);
+        TAGS.put(Float.class, FLOAT);
+        TAGS.put(Double.class, DOUBLE);
+        TAGS.put(String.class, STRING);
+        TAGS.put(BigDecimal.class, BIG_DECIMAL);
+        TAGS.put(BigInteger.class, BIG_INTEGER);
+        TAGS.put(Date.class, DATE);
+        TAGS.put(LocalDate.class, LOCAL_DATE);
+        TAGS.put(LocalDateTime.class, LOCAL_DATE_TIME);
+        TAGS.put(Instant.class, INSTANT);
+        TAGS.put(UUID.class, UUID_VALUE);
+        TAGS.put(ArrayList.class, ARRAY_LIST);
+        TAGS.put(LinkedList.class, LINKED_LIST);
+        TAGS.put(HashSet.class, HASH_SET);
+        TAGS.put(LinkedHashSet.class, LINKED_HASH_SET);
+        TAGS.put(TreeSet.class, TREE_SET);
+        TAGS.put(HashMap.class, HASH_MAP);
+        TAGS.put(LinkedHashMap.class, LINKED_HASH_MAP);
+        TAGS.put(TreeMap.class, TREE_MAP);
+        TAGS.put(byte[].class, BYTE_ARRAY);
+        TAGS.put(int[].class, INT_ARRAY);
+        TAGS.put(long[].class, LONG_ARRAY);
+        TAGS.put(double[].class, DOUBLE_ARRAY);
+    }
+
+    private static final ClassValue<FieldCodec[]> FIELDS = new ClassValue<FieldCodec[]>() {
+        @Override
+        protected FieldCodec[] computeValue(Class<?> type) {
+            return fieldCodecs(type);
+        }
+    };
+
+    private static final ClassValue<Reflection.Allocator> ALLOCATORS = new ClassValue<Reflection.Allocator>() {
+        @Override
+        protected Reflection.Allocator computeValue(Class<?> type) {
+            return Reflection.allocator(type);
+        }
+    };
+
+    private final Class<?>[] classes;
+    private final Map<Class<?>, Integer> classIds;
+
+    private CompactCodec(Class<?>[] classes) {
+        this.classes = classes;
+        this.classIds = new HashMap<>();
+        for (int i = 0; i < classes.length; i++) {
+            if (classIds.put(classes[i], i) != null)
+                throw new IllegalArgumentException("Class " + classes[i].getName() + " is registered twice.");
+        }
+    }
+
+    /**
+     * Create a codec with registered classes, written as their position in the arguments.
+     * @param classes classes to register, the ones that are written often.
+     * @return instance of {@link CompactCodec}.
+     */
+    public static CompactCodec of(Class<?>... classes) {
+        requireNonNull(classes, "Classes is null.");
+        Class<?>[] copy = classes.clone();
+        for (Class<?> type : copy) {
+            requireNonNull(type, "Class is null.");
+        }
+        return new CompactCodec(copy);
+    }
+
+    @Override
+    public void write(Object obj, OutputStream out) throws IOException {
+        requireNonNull(out, "OutputStream is null.");
+        Encoder encoder = new Encoder(out);
+        encoder.writeValue(obj);
+        encoder.flush();
+    }
+
+    @Override
+    public Object read(InputStream in) throws IOException, ClassNotFoundException {
+        requireNonNull(in, "InputStream is null.");
+        return new Decoder(in).readValue();
+    }
+
+    private static FieldCodec[] fieldCodecs(Class<?> type) {
+        if (Reflection.isJdkClass(type) || Reflection.hasCustomSerialization(type))
+            throw new IllegalArgumentException("Unsupported type: " + type.getName() + ".");
+
+        List<FieldCodec> codecs = new ArrayList<>();
+        for (Field field : Reflection.instanceFields(type)) {
+            if (!Modifier.isTransient(field.getModifiers()))
+                codecs.add(fieldCodec(field));
+        }
+        return codecs.toArray(new FieldCodec[0]);
+    }
+
+    private static FieldCodec fieldCodec(Field field) {
+        Class<?> type = field.getType();
+        if (type == int.class)
+            return new FieldCodec((encoder, obj) -> encoder.writeVarLong(zigZag(field.getInt(obj))),
+                    (decoder, obj) -> field.setInt(obj, (int) unZigZag(decoder.readVarLong())));
+        if (type == long.class)
+            return new FieldCodec((encoder, obj) -> encoder.writeVarLong(zigZag(field.getLong(obj))),
+                    (decoder, obj) -> field.setLong(obj, unZigZag(decoder.readVarLong())));
+        if (type == double.class)
+            return new FieldCodec((encoder, obj) -> encoder.writeFixed(Double.doubleToRawLongBits(field.getDouble(obj)), 8),
+                    (decoder, obj) -> field.setDouble(obj, Double.longBitsToDouble(decoder.readFixed(8))));
+        if (type == boolean.class)
+            return new FieldCodec((encoder, obj) -> encoder.writeByte(field.getBoolean(obj) ? 1 : 0),
+                    (decoder, obj) -> field.setBoolean(obj, decoder.readByte() != 0));
+        if (type == float.class)
+            return new FieldCodec((encoder, obj) -> encoder.writeFixed(Float.floatToRawIntBits(field.getFloat(obj)), 4),
+                    (decoder, obj) -> field.setFloat(obj, Float.intBitsToFloat((int) decoder.readFixed(4))));
+        if (type == short.class)
+            return new FieldCodec((encoder, obj) -> encoder.writeVarLong(zigZag(field.getShort(obj))),
+                    (decoder, obj) -> field.setShort(obj, (short) unZigZag(decoder.readVarLong())));
+        if (type == byte.class)
+            return new FieldCodec((encoder, obj) -> encoder.writeByte(field.getByte(obj)),
+                    (decoder, obj) -> field.setByte(obj, (byte) decoder.readByte()));
+        if (type == char.class)
+            return new FieldCodec((encoder, obj) -> encoder.writeVarLong(field.getChar(obj)),
+                    (decoder, obj) -> field.setChar(obj, (char) decoder.readVarLong()));
+        return new FieldCodec((encoder, obj) -> encoder.writeValue(field.get(obj)),
+                (decoder, obj) -> field.set(obj, decoder.readValue()));
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class FieldCodec {
+
+        private final FieldWriter writer;
+        private final FieldReader reader;
+
+        private FieldCodec(FieldWriter writer, FieldReader reader) {
+            this.writer = writer;
+            this.reader = reader;
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+
+        void write(Encoder encoder, Object obj) throws IOException, IllegalAccessException;
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+
+        void read(Decoder decoder, Object obj) throws IOException, ClassNotFoundException, IllegalAccessException;
+    }
+
+    private final class Encoder {
+
+        private final OutputStream out;
+        private final byte[] buffer = new byte[1024];
+        private int position;
+        private final IdentityHashMap<Object, Integer> handles = new IdentityHashMap<>();
+        private Map<Class<?>, Integer> newClassIds;
+
+        private Encoder(OutputStream out) {
+            this.out = out;
+        }
+
+        void writeValue(Object value) throws IOException {
+            if (value == null) {
+                writeVarLong(NULL);
+                return;
+            }
+            if (value instanceof Boolean) {
+                writeVarLong((Boolean) value ? TRUE : FALSE);
+                return;
+            }
+
+            Class<?> type = value.getClass();
+            Integer tag = TAGS.get(type);
+            if (value instanceof Enum) {
+                writeVarLong(ENUM);
+                writeClass(((Enum<?>) value).getDeclaringClass());
+                writeVarLong(((Enum<?>) value).ordinal());
+                return;
+            }
+            if (tag != null && tag != DATE && tag <= UUID_VALUE) {
+                writeImmutable(tag, value);
+                return;
+            }
+
+            Integer handle = handles.get(value);
+            if (handle != null) {
+                writeVarLong(REFERENCE);
+                writeVarLong(handle);
+                return;
+            }
+            handles.put(value, handles.size());
+
+            if (tag != null) {
+                writeVarLong(tag);
+                writeMutable(tag, value);
+            } else if (type.isArray()) {
+                writeArray(value);
+            } else {
+                writeObject(type, value);
+            }
+        }
+
+        private void writeImmutable(int tag, Object value) throws IOException {
+            writeVarLong(tag);
+            switch (tag) {
+                case BYTE: writeByte((Byte) value); break;
+                case SHORT: writeVarLong(zigZag((Short) value)); break;
+                case CHAR: writeVarLong((Character) value); break;
+                case INT: writeVarLong(zigZag((Integer) value)); break;
+                case LONG: writeVarLong(zigZag((Long) value)); break;
+                case FLOAT: writeFixed(Float.floatToRawIntBits((Float) value), 4); break;
+                case DOUBLE: writeFixed(Double.doubleToRawLongBits((Double) value), 8); break;
+                case STRING: writeString((String) value); break;
+                case BIG_DECIMAL:
+                    writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+                    writeVarLong(zigZag(((BigDecimal) value).scale()));
+                    break;
+                case BIG_INTEGER: writeBytes(((BigInteger) value).toByteArray()); break;
+                case LOCAL_DATE: writeVarLong(zigZag(((LocalDate) value).toEpochDay())); break;
+                case LOCAL_DATE_TIME:
+                    LocalDateTime localDateTime = (LocalDateTime) value;
+                    writeVarLong(zigZag(localDateTime.toLocalDate().toEpochDay()));
+                    writeVarLong(localDateTime.toLocalTime().toNanoOfDay());
+                    break;
+                case INSTANT:
+                    writeVarLong(zigZag(((Instant) value).getEpochSecond()));
+                    writeVarLong(((Instant) value).getNano());
+                    break;
+                default:
+                    writeFixed(((UUID) value).getMostSignificantBits(), 8);
+                    writeFixed(((UUID) value).getLeastSignificantBits(), 8);
+            }
+        }
+
+        private void writeMutable(int tag, Object value) throws IOException {
+            switch (tag) {
+                case DATE:
+                    writeVarLong(zigZag(((Date) value).getTime()));
+                    return;
+                case TREE_SET:
+                    if (((TreeSet<?>) value).comparator() != null)
+                        throw new IllegalArgumentException("Unsupported TreeSet with comparator.");
+                    writeCollection((Collection<?>) value);
+                    return;
+                case TREE_MAP:
+                    if (((TreeMap<?, ?>) value).comparator() != null)
+                        throw new IllegalArgumentException("Unsupported TreeMap with comparator.");
+                    writeMap((Map<?, ?>) value);
+                    return;
+                case HASH_MAP:
+                case LINKED_HASH_MAP:
+                    writeMap((Map<?, ?>) value);
+                    return;
+                case BYTE_ARRAY:
+                    writeBytes((byte[]) value);
+                    return;
+                case INT_ARRAY:
+                    writeVarLong(((int[]) value).length);
+                    for (int element : (int[]) value) {
+                        writeVarLong(zigZag(element));
+                    }
+                    return;
+                case LONG_ARRAY:
+                    writeVarLong(((long[]) value).length);
+                    for (long element : (long[]) value) {
+                        writeVarLong(zigZag(element));
+                    }
+                    return;
+                case DOUBLE_ARRAY:
+                    writeVarLong(((double[]) value).length);
+                    for (double element : (double[]) value) {
+                        writeFixed(Double.doubleToRawLongBits(element), 8);
+                    }
+                    return;
+                default:
+                    writeCollection((Collection<?>) value);
+            }
+        }
+
+        private void writeCollection(Collection<?> collection) throws IOException {
+            writeVarLong(collection.size());
+            for (Object element : collection) {
+                writeValue(element);
+            }
+        }
+
+        private void writeMap(Map<?, ?> map) throws IOException {
+            writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(entry.getKey());
+                writeValue(entry.getValue());
+            }
+        }
+
+        private void writeArray(Object array) throws IOException {
+            Class<?> componentType = array.getClass().getComponentType();
+            int length = Array.getLength(array);
+            if (componentType.isPrimitive()) {
+                writeVarLong(PRIMITIVE_ARRAY);
+                writeString(componentType.getName());
+                writeVarLong(length);
+                for (int i = 0; i < length; i++) {
+                    writeValue(Array.get(array, i));
+                }
+            } else {
+                writeVarLong(OBJECT_ARRAY);
+                writeClass(componentType);
+                writeVarLong(length);
+                for (Object element : (Object[]) array) {
+                    writeValue(element);
+                }
+            }
+        }
+
+        private void writeObject(Class<?> type, Object value) throws IOException {
+            FieldCodec[] fields = FIELDS.get(type);
+            Integer id = classId(type);
+            if (id != null) {
+                writeVarLong(CLASS_BASE + id);
+            } else {
+                writeVarLong(NEW_CLASS);
+                writeString(type.getName());
+                newClassIds.put(type, classes.length + newClassIds.size());
+            }
+            try {
+                for (FieldCodec field : fields) {
+                    field.writer.write(this, value);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Can't read the fields of " + type.getName() + ".", e);
+            }
+        }
+
+        private void writeClass(Class<?> type) throws IOException {
+            Integer id = classId(type);
+            if (id != null) {
+                writeVarLong(id + 1);
+            } else {
+                writeVarLong(0);
+                writeString(type.getName());
+                newClassIds.put(type, classes.length + newClassIds.size());
+            }
+        }
+
+        private Integer classId(Class<?> type) {
+            Integer id = classIds.get(type);
+            if (id != null)
+                return id;
+            if (newClassIds == null)
+                newClassIds = new HashMap<>();
+            return newClassIds.get(type);
+        }
+
+        private void writeString(String value) throws IOException {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void writeBytes(byte[] bytes) throws IOException {
+            writeVarLong(bytes.length);
+            if (bytes.length > buffer.length - position) {
+                flush();
+                out.write(bytes);
+            } else {
+                System.arraycopy(bytes, 0, buffer, position, bytes.length);
+                position += bytes.length;
+            }
+        }
+
+        void writeVarLong(long value) throws IOException {
+            if (buffer.length - position < 10)
+                flush();
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeFixed(long value, int bytes) throws IOException {
+            if (buffer.length - position < 8)
+                flush();
+            for (int shift = (bytes - 1) * 8; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeByte(int value) throws IOException {
+            if (position == buffer.length)
+                flush();
+            buffer[position++] = (byte) value;
+        }
+
+        void flush() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private final class Decoder {
+
+        private final InputStream in;
+        private final List<Object> handles = new ArrayList<>();
+        private final List<Class<?>> newClasses = new ArrayList<>();
+
+        private Decoder(InputStream in) {
+            this.in = in;
+        }
+
+        Object readValue() throws IOException, ClassNotFoundException {
+            int tag = (int) readVarLong();
+            switch (tag) {
+                case NULL: return null;
+                case REFERENCE: return handle((int) readVarLong());
+                case NEW_CLASS: return readObject(readNewClass());
+                case TRUE: return Boolean.TRUE;
+                case FALSE: return Boolean.FALSE;
+                case BYTE: return (byte) readByte();
+                case SHORT: return (short) unZigZag(readVarLong());
+                case CHAR: return (char) readVarLong();
+                case INT: return (int) unZigZag(readVarLong());
+                case LONG: return unZigZag(readVarLong());
+                case FLOAT: return Float.intBitsToFloat((int) readFixed(4));
+                case DOUBLE: return Double.longBitsToDouble(readFixed(8));
+                case STRING: return readString();
+                case BIG_DECIMAL: return new BigDecimal(new BigInteger(readBytes()), (int) unZigZag(readVarLong()));
+                case BIG_INTEGER: return new BigInteger(readBytes());
+                case DATE: return register(new Date(unZigZag(readVarLong())));
+                case LOCAL_DATE: return LocalDate.ofEpochDay(unZigZag(readVarLong()));
+                case LOCAL_DATE_TIME:
+                    LocalDate date = LocalDate.ofEpochDay(unZigZag(readVarLong()));
+                    return date.atTime(LocalTime.ofNanoOfDay(readVarLong()));
+                case INSTANT: return Instant.ofEpochSecond(unZigZag(readVarLong()), readVarLong());
+                case UUID_VALUE: return new UUID(readFixed(8), readFixed(8));
+                case ENUM: return readEnum();
+                case ARRAY_LIST: return readCollection(new ArrayList<>());
+                case LINKED_LIST: return readCollection(new LinkedList<>());
+                case HASH_SET: return readCollection(new HashSet<>());
+                case LINKED_HASH_SET: return readCollection(new LinkedHashSet<>());
+                case TREE_SET: return readCollection(new TreeSet<>());
+                case HASH_MAP: return readMap(new HashMap<>());
+                case LINKED_HASH_MAP: return readMap(new LinkedHashMap<>());
+                case TREE_MAP: return readMap(new TreeMap<>());
+                case BYTE_ARRAY: return register(readBytes());
+                case INT_ARRAY: return readIntArray();
+                case LONG_ARRAY: return readLongArray();
+                case DOUBLE_ARRAY: return readDoubleArray();
+                case OBJECT_ARRAY: return readObjectArray();
+                case PRIMITIVE_ARRAY: return readPrimitiveArray();
+                default:
+                    if (tag < CLASS_BASE)
+                        throw new StreamCorruptedException("Invalid tag: " + tag + ".");
+                    return readObject(classById(tag - CLASS_BASE));
+            }
+        }
+
+        private Object readEnum() throws IOException, ClassNotFoundException {
+            Class<?> type = readClass();
+            if (!type.isEnum())
+                throw new StreamCorruptedException("Class " + type.getName() + " is not an enum.");
+            int ordinal = (int) readVarLong();
+            Object[] constants = type.getEnumConstants();
+            if (ordinal >= constants.length)
+                throw new StreamCorruptedException("Invalid ordinal " + ordinal + " of " + type.getName() + ".");
+            return constants[ordinal];
+        }
+
+        private Object readCollection(Collection<Object> collection) throws IOException, ClassNotFoundException {
+            register(collection);
+            int size = readSize();
+            for (int i = 0; i < size; i++) {
+                collection.add(readValue());
+            }
+            return collection;
+        }
+
+        private Object readMap(Map<Object, Object> map) throws IOException, ClassNotFoundException {
+            register(map);
+            int size = readSize();
+            for (int i = 0; i < size; i++) {
+                map.put(readValue(), readValue());
+            }
+            return map;
+        }
+
+        private Object readIntArray() throws IOException {
+            int[] array = (int[]) register(new int[readSize()]);
+            for (int i = 0; i < array.length; i++) {
+                array[i] = (int) unZigZag(readVarLong());
+            }
+            return array;
+        }
+
+        private Object readLongArray() throws IOException {
+            long[] array = (long[]) register(new long[readSize()]);
+            for (int i = 0; i < array.length; i++) {
+                array[i] = unZigZag(readVarLong());
+            }
+            return array;
+        }
+
+        private Object readDoubleArray() throws IOException {
+            double[] array = (double[]) register(new double[readSize()]);
+            for (int i = 0; i < array.length; i++) {
+                array[i] = Double.longBitsToDouble(readFixed(8));
+            }
+            return array;
+        }
+
+        private Object readObjectArray() throws IOException, ClassNotFoundException {
+            Class<?> componentType = readClass();
+            Object[] array = (Object[]) register(Array.newInstance(componentType, readSize()));
+            for (int i = 0; i < array.length; i++) {
+                array[i] = readValue();
+            }
+            return array;
+        }
+
+        private Object readPrimitiveArray() throws IOException, ClassNotFoundException {
+            Class<?> componentType = primitiveClass(readString());
+            Object array = register(Array.newInstance(componentType, readSize()));
+            for (int i = 0, length = Array.getLength(array); i < length; i++) {
+                Array.set(array, i, readValue());
+            }
+            return array;
+        }
+
+        private Object readObject(Class<?> type) throws IOException, ClassNotFoundException {
+            FieldCodec[] fields = FIELDS.get(type);
+            Object obj = register(ALLOCATORS.get(type).allocate());
+            try {
+                for (FieldCodec field : fields) {
+                    field.reader.read(this, obj);
+                }
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                throw new StreamCorruptedException("Can't set the fields of " + type.getName() + ": " + e.getMessage());
+            }
+            return obj;
+        }
+
+        private Class<?> readClass() throws IOException, ClassNotFoundException {
+            int id = (int) readVarLong();
+            return id == 0 ? readNewClass() : classById(id - 1);
+        }
+
+        private Class<?> readNewClass() throws IOException, ClassNotFoundException {
+            String name = readString();
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            Class<?> type = Class.forName(name, false, loader != null ? loader : CompactCodec.class.getClassLoader());
+            newClasses.add(type);
+            return type;
+        }
+
+        private Class<?> classById(int id) throws StreamCorruptedException {
+            if (id < classes.length)
+                return classes[id];
+            if (id - classes.length < newClasses.size())
+                return newClasses.get(id - classes.length);
+            throw new StreamCorruptedException("Invalid class id: " + id + ".");
+        }
+
+        private Class<?> primitiveClass(String name) throws StreamCorruptedException {
+            switch (name) {
+                case "boolean": return boolean.class;
+                case "byte": return byte.class;
+                case "short": return short.class;
+                case "char": return char.class;
+                case "int": return int.class;
+                case "long": return long.class;
+                case "float": return float.class;
+                case "double": return double.class;
+                default: throw new StreamCorruptedException("Invalid primitive type: " + name + ".");
+            }
+        }
+
+        private Object handle(int handle) throws StreamCorruptedException {
+            if (handle >= handles.size())
+                throw new StreamCorruptedException("Invalid reference: " + handle + ".");
+            return handles.get(handle);
+        }
+
+        private Object register(Object obj) {
+            handles.add(obj);
+            return obj;
+        }
+
+        private String readString() throws IOException {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+
+        private byte[] readBytes() throws IOException {
+            byte[] bytes = new byte[readSize()];
+            int read = 0;
+            while (read < bytes.length) {
+                int count = in.read(bytes, read, bytes.length - read);
+                if (count < 0)
+                    throw new EOFException();
+                read += count;
+            }
+            return bytes;
+        }
+
+        private int readSize() throws IOException {
+            long size = readVarLong();
+            if (size > Integer.MAX_VALUE - 8)
+                throw new StreamCorruptedException("Invalid size: " + size + ".");
+            return (int) size;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0)
+                    return value;
+            }
+            throw new StreamCorruptedException("Invalid variable length integer.");
+        }
+
+        long readFixed(int bytes) throws IOException {
+            long value = 0;
+            for (int i = 0; i < bytes; i++) {
+                value = value << 8 | readByte();
+            }
+            return value;
+        }
+
+        int readByte() throws IOException {
+            int b = in.read();
+            if (b < 0)
+                throw new EOFException();
+            return b;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.felix.common.object;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Codec} that compresses the bytes of another codec with {@link Deflater}.
+ * A preset dictionary, trained from sample objects with {@link #trainDictionary(Codec, Iterable, int)},
+ * makes small payloads compress well because they can refer to the bytes common to all of them.
+ * The codec counts the uncompressed and compressed bytes written of each type, to decide if compression pays off.
+ * <p>
+ * Each thread keeps one {@link Deflater} by level and one {@link Inflater}, shared by all the instances,
+ * so creating many short-lived codecs doesn't allocate native zlib memory for each of them.
+ */
+public final class CompressingCodec implements Codec {
+
+    /**
+     * Largest useful dictionary, the size of the deflate window.
+     */
+    public static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+    private static final int HEADER_SIZE = 8;
+    private static final ThreadLocal<Deflater[]> DEFLATERS =
+            ThreadLocal.withInitial(() -> new Deflater[Deflater.BEST_COMPRESSION + 2]);
+    private static final ThreadLocal<Inflater> INFLATERS = ThreadLocal.withInitial(Inflater::new);
+
+    private final Codec codec;
+    private final int level;
+    private final byte[] dictionary;
+    private final ConcurrentHashMap<Class<?>, Stats> stats = new ConcurrentHashMap<>();
+
+    private CompressingCodec(Codec codec, int level, byte[] dictionary) {
+        this.codec = codec;
+        this.level = level;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Create a codec that compresses the bytes of another codec.
+     * @param codec codec of the objects.
+     * @param level compression level, from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION},
+     *              or {@link Deflater#DEFAULT_COMPRESSION}.
+     * @return instance of {@link CompressingCodec}.
+     */
+    public static CompressingCodec of(Codec codec, int level) {
+        return of(codec, level, null);
+    }
+
+    /**
+     * Create a codec that compresses the bytes of another codec with a preset dictionary.
+     * Bytes must be read with the same dictionary they were written with.
+     * @param codec codec of the objects.
+     * @param level compression level, from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION},
+     *              or {@link Deflater#DEFAULT_COMPRESSION}.
+     * @param dictionary preset dictionary, or null to compress without it.
+     * @return instance of {@link CompressingCodec}.
+     */
+    public static CompressingCodec of(Codec codec, int level, byte[] dictionary) {
+        requireNonNull(codec, "Codec is null.");
+        if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION))
+            throw new IllegalArgumentException("Invalid compression level: " + level + ".");
+        return new CompressingCodec(codec, level, dictionary == null || dictionary.length == 0 ? null : dictionary.clone());
+    }
+
+    /**
+     * Build a preset dictionary from the serialized bytes of sample objects.
+     * The bytes of the samples are concatenated and the last ones are kept, because deflate finds the closest
+     * matches first, so put the most representative samples last.
+     * @param codec codec of the objects.
+     * @param samples sample objects, similar to the objects that will be written.
+     * @param maxSize maximum size of the dictionary, up to {@link #MAX_DICTIONARY_SIZE}.
+     * @return dictionary.
+     */
+    public static byte[] trainDictionary(Codec codec, Iterable<?> samples, int maxSize) {
+        requireNonNull(codec, "Codec is null.");
+        requireNonNull(samples, "Samples is null.");
+        if (maxSize < 1 || maxSize > MAX_DICTIONARY_SIZE)
+            throw new IllegalArgumentException("Dictionary size must be between 1 and " + MAX_DICTIONARY_SIZE + ".");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Object sample : samples) {
+            byte[] bytes = Objects.serialize(sample, codec);
+            out.write(bytes, 0, bytes.length);
+        }
+        byte[] bytes = out.toByteArray();
+        if (bytes.length <= maxSize)
+            return bytes;
+
+        byte[] dictionary = new byte[maxSize];
+        System.arraycopy(bytes, bytes.length - maxSize, dictionary, 0, maxSize);
+        return dictionary;
+    }
+
+    /**
+     * Returns the compression level.
+     * @return compression level.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns true if the codec uses a preset dictionary.
+     * @return true if it has a dictionary.
+     */
+    public boolean hasDictionary() {
+        return dictionary != null;
+    }
+
+    /**
+     * Returns the statistics of the objects written of a type.
+     * @param type class of the objects.
+     * @return statistics, with zero counts if no object of the type was written.
+     */
+    public Stats getStats(Class<?> type) {
+        requireNonNull(type, "Class is null.");
+        Stats typeStats = stats.get(type);
+        return typeStats != null ? typeStats : new Stats();
+    }
+
+    /**
+     * Returns the statistics of the objects written, by type.
+     * @return read-only map of statistics.
+     */
+    public Map<Class<?>, Stats> getStats() {
+        return Collections.unmodifiableMap(new HashMap<>(stats));
+    }
+
+    /**
+     * Clear the statistics.
+     */
+    public void resetStats() {
+        stats.clear();
+    }
+
+    @Override
+    public void write(Object obj, OutputStream out) throws IOException {
+        requireNonNull(out, "OutputStream is null.");
+        ByteBuffer buffer = BufferPool.DEFAULT.acquire(0);
+        ByteBufferOutputStream serialized = ByteBufferOutputStream.growable(buffer);
+        try {
+            codec.write(obj, serialized);
+            buffer = serialized.buffer();
+            int length = buffer.position();
+
+            Deflater deflater = deflater(level);
+            deflater.reset();
+            if (dictionary != null)
+                deflater.setDictionary(dictionary);
+            deflater.setInput(buffer.array(), buffer.arrayOffset(), length);
+            deflater.finish();
+
+            byte[] compressed = new byte[HEADER_SIZE + length + length / 1000 + 64];
+            int compressedLength = 0;
+            while (!deflater.finished()) {
+                if (HEADER_SIZE + compressedLength == compressed.length)
+                    compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                compressedLength += deflater.deflate(compressed, HEADER_SIZE + compressedLength,
+                        compressed.length - HEADER_SIZE - compressedLength);
+            }
+
+            ByteBuffer.wrap(compressed).putInt(length).putInt(compressedLength);
+            out.write(compressed, 0, HEADER_SIZE + compressedLength);
+            if (obj != null)
+                stats.computeIfAbsent(obj.getClass(), type -> new Stats()).add(length, HEADER_SIZE + compressedLength);
+        } finally {
+            BufferPool.DEFAULT.release(serialized.buffer());
+        }
+    }
+
+    @Override
+    public Object read(InputStream in) throws IOException, ClassNotFoundException {
+        requireNonNull(in, "InputStream is null.");
+        DataInputStream data = new DataInputStream(in);
+        int length = data.readInt();
+        int compressedLength = data.readInt();
+        if (length < 0 || compressedLength < 0)
+            throw new StreamCorruptedException("Invalid compressed lengths.");
+
+        byte[] compressed = new byte[compressedLength];
+        data.readFully(compressed);
+
+        ByteBuffer buffer = BufferPool.DEFAULT.acquire(length);
+        try {
+            Inflater inflater = INFLATERS.get();
+            inflater.reset();
+            inflater.setInput(compressed);
+            byte[] bytes = buffer.array();
+            int offset = buffer.arrayOffset();
+            int inflated = 0;
+            while (inflated < length) {
+                int count = inflater.inflate(bytes, offset + inflated, length - inflated);
+                if (count == 0) {
+                    if (inflater.needsDictionary() && dictionary != null)
+                        inflater.setDictionary(dictionary);
+                    else if (inflater.needsDictionary() || inflater.finished() || inflater.needsInput())
+                        throw new StreamCorruptedException("Invalid compressed data.");
+                }
+                inflated += count;
+            }
+            buffer.limit(length);
+            return codec.read(new ByteBufferInputStream(buffer));
+        } catch (DataFormatException | IllegalArgumentException e) {
+            throw new StreamCorruptedException("Invalid compressed data: " + e.getMessage());
+        } finally {
+            BufferPool.DEFAULT.release(buffer);
+        }
+    }
+
+    private static Deflater deflater(int level) {
+        Deflater[] deflaters = DEFLATERS.get();
+        int i = level - Deflater.DEFAULT_COMPRESSION;
+        if (deflaters[i] == null)
+            deflaters[i] = new Deflater(level);
+        return deflaters[i];
+    }
+
+    /**
+     * Sizes of the objects written of a type. Only writes are counted, reading objects doesn't change them.
+     */
+    public static final class Stats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder uncompressedBytes = new LongAdder();
+        private final LongAdder compressedBytes = new LongAdder();
+
+        private Stats() {
+        }
+
+        private void add(long uncompressed, long compressed) {
+            count.increment();
+            uncompressedBytes.add(uncompressed);
+            compressedBytes.add(compressed);
+        }
+
+        /**
+         * Returns the number of objects written.
+         * @return number of objects.
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Returns the bytes written by the wrapped codec.
+         * @return uncompressed bytes.
+         */
+        public long getUncompressedBytes() {
+            return uncompressedBytes.sum();
+        }
+
+        /**
+         * Returns the bytes written after compression, including the lengths.
+         * @return compressed bytes.
+         */
+        public long getCompressedBytes() {
+            return compressedBytes.sum();
+        }
+
+        /**
+         * Returns the compressed bytes divided by the uncompressed bytes, lower than one when compression pays off.
+         * @return compression ratio, or one if nothing was written.
+         */
+        public double getRatio() {
+            long uncompressed = getUncompressedBytes();
+            return uncompressed == 0 ? 1 : (double) getCompressedBytes() / uncompressed;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{count=" + getCount() + ", uncompressedBytes=" + getUncompressedBytes()
+                    + ", compressedBytes=" + getCompressedBytes() + '}';
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.felix.common.object;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Deep cloner that copies the fields of objects, without serializing them.
+ * The copy plan of each class is built once with reflection and cached. Shared references and cycles are kept,
+ * immutable values like {@link String}, boxed primitives, {@link BigDecimal} and java.time classes are shared,
+ * and arrays are copied in bulk. Transient fields are not copied, like in serialization.
+ * Classes of the JDK other than the common collections, and classes that customize their serialization,
+ * are not supported and throw {@link IllegalStateException}.
+ */
+public final class DeepCloner {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigDecimal.class, BigInteger.class, UUID.class, Locale.class, URI.class,
+            Class.class));
+
+    private static final ClassValue<Plan> PLANS = new ClassValue<Plan>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return plan(type);
+        }
+    };
+
+    private DeepCloner() {
+    }
+
+    /**
+     * Returns a deep copy of an object.
+     * @param obj object to clone.
+     * @param <T> generic type of object.
+     * @return a cloned object, or null if the object is null.
+     * @throws IllegalStateException if some object of the graph can't be cloned.
+     */
+    public static <T> T clone(T obj) {
+        return new Context().copy(obj);
+    }
+
+    private static Plan plan(Class<?> type) {
+        if (isImmutable(type))
+            return (source, context) -> source;
+        if (type.isArray())
+            return type.getComponentType().isPrimitive() ? DeepCloner::copyPrimitiveArray : objectArrayPlan(type);
+        if (type == Date.class)
+            return (source, context) -> context.register(source, new Date(((Date) source).getTime()));
+        if (type == Optional.class)
+            return (source, context) -> ((Optional<?>) source).map(context::copy);
+        if (type == ArrayList.class)
+            return collectionPlan(source -> new ArrayList<>(source.size()));
+        if (type == LinkedList.class)
+            return collectionPlan(source -> new LinkedList<>());
+        if (type == ArrayDeque.class)
+            return collectionPlan(source -> new ArrayDeque<>(source.size()));
+        if (type == HashSet.class)
+            return collectionPlan(source -> new HashSet<>(Math.max(16, (int) (source.size() / .75f) + 1)));
+        if (type == LinkedHashSet.class)
+            return collectionPlan(source -> new LinkedHashSet<>(Math.max(16, (int) (source.size() / .75f) + 1)));
+        if (type == TreeSet.class)
+            return collectionPlan(source -> new TreeSet<>(((TreeSet<Object>) source).comparator()));
+        if (type == HashMap.class)
+            return mapPlan(source -> new HashMap<>(Math.max(16, (int) (source.size() / .75f) + 1)));
+        if (type == TreeMap.class)
+            return mapPlan(source -> new TreeMap<>(((TreeMap<Object, Object>) source).comparator()));
+        if (type == ConcurrentHashMap.class)
+            return mapPlan(source -> new ConcurrentHashMap<>(source.size()));
+        if (type == IdentityHashMap.class)
+            return mapPlan(source -> new IdentityHashMap<>(source.size()));
+
+        try {
+            if (Reflection.hasCustomSerialization(type))
+                throw new IllegalStateException("Can't clone " + type.getName() + ", it customizes its serialization.");
+            return fieldsPlan(type);
+        } catch (IllegalStateException e) {
+            return (source, context) -> {
+                throw new IllegalStateException(e.getMessage(), e);
+            };
+        }
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return IMMUTABLE_TYPES.contains(type) || type.isEnum() || (type.getSuperclass() != null && type.getSuperclass().isEnum())
+                || type.getName().startsWith("java.time.");
+    }
+
+    private static Object copyPrimitiveArray(Object source, Context context) {
+        int length = Array.getLength(source);
+        Object copy = Array.newInstance(source.getClass().getComponentType(), length);
+        System.arraycopy(source, 0, copy, 0, length);
+        return context.register(source, copy);
+    }
+
+    private static Plan objectArrayPlan(Class<?> type) {
+        Class<?> componentType = type.getComponentType();
+        boolean immutableElements = Modifier.isFinal(componentType.getModifiers()) && isImmutable(componentType);
+        return (source, context) -> {
+            Object[] elements = (Object[]) source;
+            Object[] copy = (Object[]) context.register(source, Array.newInstance(componentType, elements.length));
+            if (immutableElements) {
+                System.arraycopy(elements, 0, copy, 0, elements.length);
+            } else {
+                for (int i = 0; i < elements.length; i++) {
+                    copy[i] = context.copy(elements[i]);
+                }
+            }
+            return copy;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Plan collectionPlan(Function<Collection<Object>, Collection<Object>> factory) {
+        return (source, context) -> {
+            Collection<Object> elements = (Collection<Object>) source;
+            Collection<Object> copy = (Collection<Object>) context.register(source, factory.apply(elements));
+            for (Object element : elements) {
+                copy.add(context.copy(element));
+            }
+            return copy;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Plan mapPlan(Function<Map<Object, Object>, Map<Object, Object>> factory) {
+        return (source, context) -> {
+            Map<Object, Object> entries = (Map<Object, Object>) source;
+            Map<Object, Object> copy = (Map<Object, Object>) context.register(source, factory.apply(entries));
+            for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+                copy.put(context.copy(entry.getKey()), context.copy(entry.getValue()));
+            }
+            return copy;
+        };
+    }
+
+    private static Plan fieldsPlan(Class<?> type) {
+        if (Reflection.isJdkClass(type) || type.isInterface() || Modifier.isAbstract(type.getModifiers()))
+            throw new IllegalStateException("Can't clone " + type.getName() + ".");
+
+        Reflection.Allocator allocator = Reflection.allocator(type);
+        List<FieldCopier> copiers = new ArrayList<>();
+        for (Field field : Reflection.instanceFields(type)) {
+            if (!Modifier.isTransient(field.getModifiers()))
+                copiers.add(copier(field));
+        }
+        FieldCopier[] fields = copiers.toArray(new FieldCopier[0]);
+
+        return (source, context) -> {
+            Object copy = context.register(source, allocator.allocate());
+            try {
+                for (FieldCopier field : fields) {
+                    field.copy(source, copy, context);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Can't clone " + type.getName() + ".", e);
+            }
+            return copy;
+        };
+    }
+
+    private static FieldCopier copier(Field field) {
+        Class<?> type = field.getType();
+        if (type == int.class)
+            return (source, copy, context) -> field.setInt(copy, field.getInt(source));
+        if (type == long.class)
+            return (source, copy, context) -> field.setLong(copy, field.getLong(source));
+        if (type == double.class)
+            return (source, copy, context) -> field.setDouble(copy, field.getDouble(source));
+        if (type == boolean.class)
+            return (source, copy, context) -> field.setBoolean(copy, field.getBoolean(source));
+        if (type == float.class)
+            return (source, copy, context) -> field.setFloat(copy, field.getFloat(source));
+        if (type == short.class)
+            return (source, copy, context) -> field.setShort(copy, field.getShort(source));
+        if (type == byte.class)
+            return (source, copy, context) -> field.setByte(copy, field.getByte(source));
+        if (type == char.class)
+            return (source, copy, context) -> field.setChar(copy, field.getChar(source));
+        if (Modifier.isFinal(type.getModifiers()) && isImmutable(type))
+            return (source, copy, context) -> field.set(copy, field.get(source));
+        return (source, copy, context) -> field.set(copy, context.copy(field.get(source)));
+    }
+
+    @FunctionalInterface
+    private interface Plan {
+
+        Object copy(Object source, Context context);
+    }
+
+    @FunctionalInterface
+    private interface FieldCopier {
+
+        void copy(Object source, Object copy, Context context) throws IllegalAccessException;
+    }
+
+    private static final class Context {
+
+        private final IdentityHashMap<Object, Object> copies = new IdentityHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        <T> T copy(T source) {
+            if (source == null)
+                return null;
+
+            Object copy = copies.get(source);
+            if (copy == null)
+                copy = PLANS.get(source.getClass()).copy(source, this);
+            return (T) copy;
+        }
+
+        Object register(Object source, Object copy) {
+            copies.put(source, copy);
+            return copy;
+        }
+    }
+}
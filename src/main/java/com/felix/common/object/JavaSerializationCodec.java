@@ -0,0 +1,33 @@
+package com.felix.common.object;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+/**
+ * {@link Codec} that uses the Java serialization, the objects must implement {@link java.io.Serializable}.
+ */
+public final class JavaSerializationCodec implements Codec {
+
+    /**
+     * Shared instance, the codec has no state.
+     */
+    public static final JavaSerializationCodec INSTANCE = new JavaSerializationCodec();
+
+    private JavaSerializationCodec() {
+    }
+
+    @Override
+    public void write(Object obj, OutputStream out) throws IOException {
+        ObjectOutputStream objectOut = new ObjectOutputStream(out);
+        objectOut.writeObject(obj);
+        objectOut.flush();
+    }
+
+    @Override
+    public Object read(InputStream in) throws IOException, ClassNotFoundException {
+        return new ObjectInputStream(in).readObject();
+    }
+}
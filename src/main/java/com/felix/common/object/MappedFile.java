@@ -0,0 +1,99 @@
+package com.felix.common.object;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only memory mapping of a file of any size, mapped in segments because a single mapping is limited to 2 GB.
+ * Ranges that cross two segments are mapped on their own when they are read.
+ * Closing the file closes its channel and fails later reads, but the mappings are only released
+ * when they are garbage collected.
+ */
+final class MappedFile implements Closeable {
+
+    private static final int SEGMENT_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+    private final int segmentSize;
+    private final long size;
+    private final MappedByteBuffer[] segments;
+    private volatile boolean closed;
+
+    private MappedFile(FileChannel channel, int segmentSize) throws IOException {
+        this.channel = channel;
+        this.segmentSize = segmentSize;
+        this.size = channel.size();
+        this.segments = new MappedByteBuffer[(int) ((size + segmentSize - 1) / segmentSize)];
+        for (int i = 0; i < segments.length; i++) {
+            long offset = (long) i * segmentSize;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(segmentSize, size - offset));
+        }
+    }
+
+    static MappedFile open(Path file) throws IOException {
+        return open(file, SEGMENT_SIZE);
+    }
+
+    static MappedFile open(Path file, int segmentSize) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new MappedFile(channel, segmentSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Returns a read-only buffer with the bytes from offset to offset + length, with position zero.
+     */
+    ByteBuffer slice(long offset, int length) throws IOException {
+        checkOpen();
+        if (offset < 0 || length < 0 || offset + length > size)
+            throw new IOException("Range " + offset + " + " + length + " is outside the file of " + size + " bytes.");
+
+        if (length == 0)
+            return ByteBuffer.allocate(0).asReadOnlyBuffer();
+
+        int segment = (int) (offset / segmentSize);
+        int position = (int) (offset % segmentSize);
+        if (position + length <= segmentSize) {
+            ByteBuffer buffer = segments[segment].duplicate();
+            buffer.position(position);
+            buffer.limit(position + length);
+            return buffer.slice().asReadOnlyBuffer();
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, length).asReadOnlyBuffer();
+    }
+
+    int getInt(long offset) throws IOException {
+        return slice(offset, 4).getInt();
+    }
+
+    long getLong(long offset) throws IOException {
+        return slice(offset, 8).getLong();
+    }
+
+    /**
+     * Throws {@link IllegalStateException} if the file was closed.
+     */
+    void checkOpen() {
+        if (closed)
+            throw new IllegalStateException("File is closed.");
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+    }
+}
@@ -0,0 +1,102 @@
+package com.felix.common.object;
+
+import com.felix.common.collection.LongList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Random access by index to the records of a file written by {@link RecordWriter}, with the file memory mapped.
+ * Opening the file reads only the lengths of the records, each record is deserialized when it is read.
+ * Closing it fails later reads, but the mapping is only released when it is garbage collected.
+ * @param <T> type of the objects.
+ */
+public final class MappedRecords<T> implements Closeable {
+
+    private final MappedFile file;
+    private final Codec codec;
+    private final long[] offsets;
+
+    private MappedRecords(MappedFile file, Codec codec, long[] offsets) {
+        this.file = file;
+        this.codec = codec;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Map a file of records.
+     * @param file file written by {@link RecordWriter}.
+     * @param codec codec of the records.
+     * @param <T> type of the objects.
+     * @return instance of {@link MappedRecords}, close it to close the file.
+     * @throws IOException if the file can't be read or a record is truncated.
+     */
+    public static <T> MappedRecords<T> open(Path file, Codec codec) throws IOException {
+        requireNonNull(file, "File is null.");
+        requireNonNull(codec, "Codec is null.");
+        return open(MappedFile.open(file), codec);
+    }
+
+    static <T> MappedRecords<T> open(MappedFile mapped, Codec codec) throws IOException {
+        try {
+            LongList offsets = new LongList();
+            long offset = 0;
+            while (offset < mapped.size()) {
+                int length = RecordFormat.checkLength(mapped.getInt(offset));
+                offsets.add(offset);
+                offset += RecordFormat.HEADER_SIZE + length;
+            }
+            if (offset != mapped.size())
+                throw new IOException("Truncated record at offset " + offsets.get(offsets.size() - 1) + ".");
+            return new MappedRecords<>(mapped, codec, offsets.toArray());
+        } catch (IOException | RuntimeException e) {
+            mapped.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of records.
+     * @return number of records.
+     */
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * Deserialize the record at an index.
+     * @param index index of the record.
+     * @return object of the record.
+     * @throws IllegalStateException if the file was closed.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        file.checkOpen();
+        if (index < 0 || index >= offsets.length)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + offsets.length);
+        try {
+            int length = file.getInt(offsets[index]);
+            return (T) RecordFormat.decode(file.slice(offsets[index] + RecordFormat.HEADER_SIZE, length), codec);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns a stream of the records in order, deserialized when the stream is consumed.
+     * @return lazy stream of objects.
+     */
+    public Stream<T> stream() {
+        return IntStream.range(0, offsets.length).mapToObj(this::get);
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
@@ -1,12 +1,18 @@
 package com.felix.common.object;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * Class that contains methods for working with {@link Object}.
  */
 public class Objects {
 
+    private static volatile Codec defaultCodec = JavaSerializationCodec.INSTANCE;
+
     /**
      * Returns true if has any object null.
      * @param objects varargs of objects.
@@ -26,12 +32,34 @@ public class Objects {
 
     /**
      * Return a new instance of object with equals values.
+     * The object is copied with {@link DeepCloner}, or serialized and deserialized when the cloner doesn't support it.
      * @param obj object to clone.
      * @param <T> generic type of object.
      * @return a cloned object.
      */
     public static <T extends Serializable> T clone(T obj) {
-        return deserialize(serialize(obj));
+        try {
+            return DeepCloner.clone(obj);
+        } catch (IllegalStateException e) {
+            return deserialize(serialize(obj));
+        }
+    }
+
+    /**
+     * Returns the codec used by {@link #serialize(Serializable)} and {@link #deserialize(byte[])}.
+     * @return default codec, {@link JavaSerializationCodec} unless it was changed.
+     */
+    public static Codec getDefaultCodec() {
+        return defaultCodec;
+    }
+
+    /**
+     * Change the codec used by {@link #serialize(Serializable)} and {@link #deserialize(byte[])}.
+     * Bytes serialized with a codec must be deserialized with the same codec.
+     * @param codec new default codec.
+     */
+    public static void setDefaultCodec(Codec codec) {
+        defaultCodec = requireNonNull(codec, "Codec is null.");
     }
 
     /**
@@ -41,11 +69,66 @@ public class Objects {
      * @return serialized object.
      */
     public static <T extends Serializable> byte[] serialize(T obj) {
-        try (ByteArrayOutputStream bos = new ByteArrayOutputStream(); ObjectOutputStream out = new ObjectOutputStream(bos)) {
-            out.writeObject(obj);
-            return bos.toByteArray();
+        return serialize(obj, defaultCodec);
+    }
+
+    /**
+     * Returns a serialized object.
+     * @param obj object to serialize.
+     * @param codec codec of the bytes.
+     * @return serialized object.
+     */
+    public static byte[] serialize(Object obj, Codec codec) {
+        requireNonNull(codec, "Codec is null.");
+        ByteBuffer buffer = write(obj, codec);
+        try {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        } finally {
+            BufferPool.DEFAULT.release(buffer);
+        }
+    }
+
+    /**
+     * Serialize an object into a buffer, from its position. The position is moved after the object.
+     * @param obj object to serialize.
+     * @param codec codec of the bytes.
+     * @param buffer buffer to write to, heap or direct.
+     * @return the buffer.
+     * @throws java.nio.BufferOverflowException if the object doesn't fit in the buffer.
+     */
+    public static ByteBuffer serialize(Object obj, Codec codec, ByteBuffer buffer) {
+        requireNonNull(codec, "Codec is null.");
+        try {
+            codec.write(obj, ByteBufferOutputStream.fixed(buffer));
+            return buffer;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Serialize an object into a pooled buffer and write it to a channel.
+     * @param obj object to serialize.
+     * @param codec codec of the bytes.
+     * @param channel channel to write to.
+     * @return number of bytes written.
+     */
+    public static int serialize(Object obj, Codec codec, WritableByteChannel channel) {
+        requireNonNull(codec, "Codec is null.");
+        requireNonNull(channel, "Channel is null.");
+        ByteBuffer buffer = write(obj, codec);
+        try {
+            int size = buffer.remaining();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            return size;
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } finally {
+            BufferPool.DEFAULT.release(buffer);
         }
     }
 
@@ -56,10 +139,59 @@ public class Objects {
      * @return deserialized object.
      */
     public static <T extends Serializable> T deserialize(byte[] bytes) {
-        try (ByteArrayInputStream bos = new ByteArrayInputStream(bytes); ObjectInputStream in = new ObjectInputStream(bos)) {
-            return (T) in.readObject();
+        return deserialize(bytes, defaultCodec);
+    }
+
+    /**
+     * Returns a object deserialized.
+     * @param bytes object to deserialize.
+     * @param codec codec of the bytes.
+     * @param <T> generic type of object.
+     * @return deserialized object.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deserialize(byte[] bytes, Codec codec) {
+        requireNonNull(bytes, "Bytes is null.");
+        requireNonNull(codec, "Codec is null.");
+        try (ByteArrayInputStream bis = new ByteArrayInputStream(bytes)) {
+            return (T) codec.read(bis);
         } catch (IOException | ClassNotFoundException e) {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Returns a object deserialized from a buffer, from its position. The position is moved after the object.
+     * The buffer is read in place, without copying it.
+     * @param buffer object to deserialize, heap or direct.
+     * @param codec codec of the bytes.
+     * @param <T> generic type of object.
+     * @return deserialized object.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deserialize(ByteBuffer buffer, Codec codec) {
+        requireNonNull(codec, "Codec is null.");
+        try {
+            return (T) codec.read(new ByteBufferInputStream(buffer));
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static ByteBuffer write(Object obj, Codec codec) {
+        ByteBufferOutputStream out = ByteBufferOutputStream.growable(BufferPool.DEFAULT.acquire(0));
+        boolean written = false;
+        try {
+            codec.write(obj, out);
+            written = true;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (!written)
+                BufferPool.DEFAULT.release(out.buffer());
+        }
+        ByteBuffer buffer = out.buffer();
+        buffer.flip();
+        return buffer;
+    }
 }
@@ -0,0 +1,57 @@
+package com.felix.common.object;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Format of the records of {@link RecordWriter}: a four bytes big-endian length followed by the payload.
+ */
+final class RecordFormat {
+
+    static final int HEADER_SIZE = 4;
+
+    private RecordFormat() {
+    }
+
+    /**
+     * Serialize an object into a pooled heap buffer as a record, ready to be read.
+     * The buffer must be released to {@link BufferPool#DEFAULT}.
+     */
+    static ByteBuffer encode(Object obj, Codec codec) {
+        ByteBuffer initial = BufferPool.DEFAULT.acquire(0);
+        initial.position(HEADER_SIZE);
+        ByteBufferOutputStream out = ByteBufferOutputStream.growable(initial);
+        boolean written = false;
+        try {
+            codec.write(obj, out);
+            written = true;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (!written)
+                BufferPool.DEFAULT.release(out.buffer());
+        }
+
+        ByteBuffer buffer = out.buffer();
+        buffer.putInt(0, buffer.position() - HEADER_SIZE);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Deserialize a payload, reading the buffer in place.
+     */
+    static Object decode(ByteBuffer payload, Codec codec) {
+        try {
+            return codec.read(new ByteBufferInputStream(payload));
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static int checkLength(int length) throws IOException {
+        if (length < 0)
+            throw new IOException("Invalid record length: " + length + ".");
+        return length;
+    }
+}
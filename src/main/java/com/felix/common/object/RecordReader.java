@@ -0,0 +1,139 @@
+package com.felix.common.object;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reader of the records written by {@link RecordWriter}, one record at a time.
+ * The reader is an {@link Iterator} and can be read as a lazy {@link Stream}.
+ * @param <T> type of the objects.
+ */
+public final class RecordReader<T> implements Iterator<T>, Closeable {
+
+    private final ReadableByteChannel channel;
+    private final Codec codec;
+    private final ByteBuffer header = ByteBuffer.allocate(RecordFormat.HEADER_SIZE);
+    private boolean headerRead;
+    private boolean finished;
+
+    private RecordReader(ReadableByteChannel channel, Codec codec) {
+        this.channel = channel;
+        this.codec = codec;
+    }
+
+    /**
+     * Create a reader from a stream.
+     * @param in stream to read, closed with the reader.
+     * @param codec codec of the records.
+     * @param <T> type of the objects.
+     * @return instance of {@link RecordReader}.
+     */
+    public static <T> RecordReader<T> of(InputStream in, Codec codec) {
+        requireNonNull(in, "InputStream is null.");
+        return of(Channels.newChannel(in), codec);
+    }
+
+    /**
+     * Create a reader from a channel, like a {@link java.nio.channels.FileChannel}, from its position.
+     * @param channel channel to read, closed with the reader.
+     * @param codec codec of the records.
+     * @param <T> type of the objects.
+     * @return instance of {@link RecordReader}.
+     */
+    public static <T> RecordReader<T> of(ReadableByteChannel channel, Codec codec) {
+        requireNonNull(channel, "Channel is null.");
+        requireNonNull(codec, "Codec is null.");
+        return new RecordReader<>(channel, codec);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished)
+            return false;
+        if (headerRead)
+            return true;
+
+        try {
+            header.clear();
+            if (!readFully(header, true)) {
+                finished = true;
+                return false;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        headerRead = true;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        headerRead = false;
+        ByteBuffer payload = null;
+        try {
+            int length = RecordFormat.checkLength(header.getInt(0));
+            payload = BufferPool.DEFAULT.acquire(length);
+            payload.limit(length);
+            readFully(payload, false);
+            payload.flip();
+            return (T) RecordFormat.decode(payload, codec);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            BufferPool.DEFAULT.release(payload);
+        }
+    }
+
+    /**
+     * Returns a sequential stream of the remaining records, read when the stream is consumed.
+     * Closing the stream closes the reader.
+     * @return lazy stream of objects.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        channel.close();
+    }
+
+    /**
+     * Fill the buffer, returns false if the channel ended before the first byte when the end is allowed.
+     */
+    private boolean readFully(ByteBuffer buffer, boolean endAllowed) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (endAllowed && buffer.position() == 0)
+                    return false;
+                throw new EOFException("Truncated record.");
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,118 @@
+package com.felix.common.object;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writer of a sequence of objects, each one serialized as a record with a four bytes length followed by the payload.
+ * Objects are written one at a time, so a large collection never needs to be serialized in memory at once.
+ * The records are read by {@link RecordReader} or, from a file, by {@link MappedRecords}.
+ */
+public final class RecordWriter implements Closeable, Flushable {
+
+    private final Codec codec;
+    private final OutputStream out;
+    private final FileChannel channel;
+    private long count;
+    private long bytes;
+
+    private RecordWriter(Codec codec, OutputStream out, FileChannel channel) {
+        this.codec = codec;
+        this.out = out;
+        this.channel = channel;
+    }
+
+    /**
+     * Create a writer to a stream.
+     * @param out stream to write to, closed with the writer.
+     * @param codec codec of the records.
+     * @return instance of {@link RecordWriter}.
+     */
+    public static RecordWriter of(OutputStream out, Codec codec) {
+        requireNonNull(out, "OutputStream is null.");
+        requireNonNull(codec, "Codec is null.");
+        return new RecordWriter(codec, out, null);
+    }
+
+    /**
+     * Create a writer to a channel, from its position.
+     * @param channel channel to write to, closed with the writer.
+     * @param codec codec of the records.
+     * @return instance of {@link RecordWriter}.
+     */
+    public static RecordWriter of(FileChannel channel, Codec codec) {
+        requireNonNull(channel, "Channel is null.");
+        requireNonNull(codec, "Codec is null.");
+        return new RecordWriter(codec, null, channel);
+    }
+
+    /**
+     * Write an object as a record.
+     * @param obj object to write, it can be null.
+     */
+    public void write(Object obj) {
+        ByteBuffer buffer = RecordFormat.encode(obj, codec);
+        try {
+            if (channel != null) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } else {
+                out.write(buffer.array(), buffer.arrayOffset(), buffer.remaining());
+            }
+            count++;
+            bytes += buffer.limit();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            BufferPool.DEFAULT.release(buffer);
+        }
+    }
+
+    /**
+     * Write each object as a record.
+     * @param objects objects to write.
+     */
+    public void writeAll(Iterable<?> objects) {
+        requireNonNull(objects, "Objects is null.");
+        for (Object obj : objects) {
+            write(obj);
+        }
+    }
+
+    /**
+     * Returns the number of records written.
+     * @return number of records.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of bytes written, including the lengths of the records.
+     * @return number of bytes.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out != null)
+            out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null)
+            out.close();
+        else
+            channel.close();
+    }
+}
@@ -0,0 +1,117 @@
+package com.felix.common.object;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reflection helpers shared by the cloner and the codecs.
+ */
+final class Reflection {
+
+    private static final Object UNSAFE;
+    private static final Method ALLOCATE_INSTANCE;
+
+    static {
+        Object unsafe = null;
+        Method allocateInstance = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            allocateInstance = unsafeClass.getMethod("allocateInstance", Class.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            allocateInstance = null;
+        }
+        UNSAFE = unsafe;
+        ALLOCATE_INSTANCE = allocateInstance;
+    }
+
+    private Reflection() {
+    }
+
+    /**
+     * Returns a function that creates instances of a class without running its constructors when it's possible,
+     * or with its no-arg constructor.
+     */
+    static Allocator allocator(Class<?> type) {
+        if (ALLOCATE_INSTANCE != null) {
+            return () -> {
+                try {
+                    return ALLOCATE_INSTANCE.invoke(UNSAFE, type);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Can't create an instance of " + type.getName() + ".", e);
+                }
+            };
+        }
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return () -> {
+                try {
+                    return constructor.newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Can't create an instance of " + type.getName() + ".", e);
+                }
+            };
+        } catch (NoSuchMethodException | RuntimeException e) {
+            throw new IllegalStateException("Can't create instances of " + type.getName() + ".", e);
+        }
+    }
+
+    /**
+     * Returns the non-static fields of a class and its superclasses, superclass fields first, made accessible.
+     * Throws {@link IllegalStateException} if some class of the hierarchy belongs to the JDK, other than {@link Object}.
+     */
+    static List<Field> instanceFields(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+            if (isJdkClass(current))
+                throw new IllegalStateException("Can't access the fields of " + current.getName() + ".");
+            hierarchy.add(0, current);
+        }
+
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Returns true if the class or one of its superclasses declares a custom serialization method.
+     */
+    static boolean hasCustomSerialization(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                String name = method.getName();
+                if (name.equals("writeObject") || name.equals("readObject") || name.equals("readObjectNoData")
+                        || name.equals("writeReplace") || name.equals("readResolve"))
+                    return true;
+            }
+        }
+        return java.io.Externalizable.class.isAssignableFrom(type);
+    }
+
+    static boolean isJdkClass(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("sun.")
+                || name.startsWith("jdk.") || name.startsWith("com.sun.");
+    }
+
+    @FunctionalInterface
+    interface Allocator {
+
+        Object allocate();
+    }
+}
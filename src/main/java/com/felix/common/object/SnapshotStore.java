@@ -0,0 +1,355 @@
+package com.felix.common.object;
+
+import com.felix.common.collection.LongList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Read-only snapshot of serialized objects in a memory-mapped file, for tables loaded at startup.
+ * Opening a snapshot only maps the file and reads its trailer, each record is deserialized on its first access
+ * and kept. Each record has a CRC32 of its payload, checked before deserializing it.
+ * <p>
+ * The file has a header, the records as a length, a CRC32 and the payload, the offsets of the records,
+ * and a trailer with the offset of the index and the number of records. Snapshots are written by {@link Writer}.
+ * Closing a snapshot fails later reads, but the mapping is only released when it is garbage collected.
+ * @param <T> type of the objects.
+ */
+public final class SnapshotStore<T> implements Closeable {
+
+    private static final int MAGIC = 0x46534E50;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int TRAILER_SIZE = 16;
+    private static final Object NULL = new Object();
+
+    private final MappedFile file;
+    private final Codec codec;
+    private final int size;
+    private final long indexOffset;
+    private final AtomicReferenceArray<Object> values;
+
+    private SnapshotStore(MappedFile file, Codec codec, int size, long indexOffset) {
+        this.file = file;
+        this.codec = codec;
+        this.size = size;
+        this.indexOffset = indexOffset;
+        this.values = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * Create a writer of a new snapshot. The records are written to a temporary file in the same directory,
+     * which replaces the file only when the writer is closed, so the previous snapshot is kept until then.
+     * @param file file of the snapshot.
+     * @param codec codec of the records.
+     * @return writer, close it to complete the snapshot.
+     * @throws IOException if the file can't be written.
+     */
+    public static Writer writer(Path file, Codec codec) throws IOException {
+        requireNonNull(file, "File is null.");
+        requireNonNull(codec, "Codec is null.");
+        Path absolute = file.toAbsolutePath();
+        Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            return new Writer(absolute, temporary, FileChannel.open(temporary, StandardOpenOption.WRITE), codec);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+    }
+
+    /**
+     * Write a snapshot of the objects. If some object can't be written the previous snapshot is kept.
+     * @param file file of the snapshot.
+     * @param objects objects to write.
+     * @param codec codec of the records.
+     * @throws IOException if the file can't be written.
+     */
+    public static void write(Path file, Iterable<?> objects, Codec codec) throws IOException {
+        requireNonNull(objects, "Objects is null.");
+        Writer writer = writer(file, codec);
+        try {
+            for (Object obj : objects) {
+                writer.write(obj);
+            }
+        } catch (RuntimeException | Error e) {
+            writer.abort();
+            throw e;
+        }
+        writer.close();
+    }
+
+    /**
+     * Open a snapshot, mapping its file.
+     * @param file file of the snapshot.
+     * @param codec codec of the records.
+     * @param <T> type of the objects.
+     * @return instance of {@link SnapshotStore}, close it to close the file.
+     * @throws IOException if the file can't be read or is not a complete snapshot.
+     */
+    public static <T> SnapshotStore<T> open(Path file, Codec codec) throws IOException {
+        requireNonNull(file, "File is null.");
+        requireNonNull(codec, "Codec is null.");
+
+        MappedFile mapped = MappedFile.open(file);
+        try {
+            if (mapped.size() < HEADER_SIZE + TRAILER_SIZE || mapped.getInt(0) != MAGIC)
+                throw new IOException("File " + file + " is not a snapshot.");
+            if (mapped.getInt(4) != VERSION)
+                throw new IOException("Unsupported snapshot version: " + mapped.getInt(4) + ".");
+
+            long trailer = mapped.size() - TRAILER_SIZE;
+            long indexOffset = mapped.getLong(trailer);
+            int size = mapped.getInt(trailer + 8);
+            if (mapped.getInt(trailer + 12) != MAGIC || size < 0 || indexOffset < HEADER_SIZE
+                    || indexOffset + (long) size * 8 != trailer)
+                throw new IOException("Snapshot " + file + " is incomplete.");
+            return new SnapshotStore<>(mapped, codec, size, indexOffset);
+        } catch (IOException | RuntimeException e) {
+            mapped.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of records.
+     * @return number of records.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the object of a record, deserialized on the first access.
+     * @param index index of the record.
+     * @return object of the record.
+     * @throws IllegalStateException if the checksum of the record doesn't match, or the snapshot was closed.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        file.checkOpen();
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        Object value = values.get(index);
+        if (value == null) {
+            Object loaded = load(index);
+            value = values.compareAndSet(index, null, loaded == null ? NULL : loaded) ? loaded : values.get(index);
+        }
+        return value == NULL ? null : (T) value;
+    }
+
+    /**
+     * Returns true if the record was already deserialized.
+     * @param index index of the record.
+     * @return true if loaded.
+     */
+    public boolean isLoaded(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return values.get(index) != null;
+    }
+
+    /**
+     * Returns a stream of the records in order, deserialized when the stream is consumed.
+     * @return lazy stream of objects.
+     */
+    public Stream<T> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    private Object load(int index) {
+        try {
+            long offset = file.getLong(indexOffset + (long) index * 8);
+            int length = RecordFormat.checkLength(file.getInt(offset));
+            int checksum = file.getInt(offset + 4);
+            ByteBuffer payload = file.slice(offset + RECORD_HEADER_SIZE, length);
+
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum)
+                throw new IllegalStateException("Checksum of record " + index + " doesn't match.");
+            return RecordFormat.decode(payload, codec);
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't read record " + index + ".", e);
+        }
+    }
+
+    /**
+     * Writer of a snapshot. The records are appended to a temporary file, and closing the writer writes the index
+     * and replaces the snapshot file. A writer whose file failed to be written, or that was aborted,
+     * doesn't replace the snapshot.
+     */
+    public static final class Writer implements Closeable {
+
+        private final Path file;
+        private final Path temporary;
+        private final FileChannel channel;
+        private final Codec codec;
+        private final LongList offsets = new LongList();
+        private final ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        private final CRC32 crc = new CRC32();
+        private long position;
+        private boolean failed;
+        private boolean closed;
+
+        private Writer(Path file, Path temporary, FileChannel channel, Codec codec) throws IOException {
+            this.file = file;
+            this.temporary = temporary;
+            this.channel = channel;
+            this.codec = codec;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+            header.flip();
+            try {
+                writeFully(header);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Append an object as a record.
+         * @param obj object to write, it can be null.
+         * @return index of the record.
+         */
+        public int write(Object obj) {
+            if (closed)
+                throw new IllegalStateException("Writer is closed.");
+            if (failed)
+                throw new IllegalStateException("A previous write failed.");
+
+            ByteBuffer record = RecordFormat.encode(obj, codec);
+            try {
+                ByteBuffer payload = record.duplicate();
+                payload.position(RecordFormat.HEADER_SIZE);
+                crc.reset();
+                crc.update(payload);
+
+                recordHeader.clear();
+                recordHeader.putInt(record.getInt(0)).putInt((int) crc.getValue());
+                recordHeader.flip();
+                record.position(RecordFormat.HEADER_SIZE);
+
+                long offset = position;
+                writeFully(recordHeader, record);
+                offsets.add(offset);
+                return offsets.size() - 1;
+            } catch (IOException e) {
+                failed = true;
+                throw new RuntimeException(e);
+            } finally {
+                BufferPool.DEFAULT.release(record);
+            }
+        }
+
+        /**
+         * Returns the number of records written.
+         * @return number of records.
+         */
+        public int getCount() {
+            return offsets.size();
+        }
+
+        /**
+         * Discard the records written, keeping the previous snapshot.
+         * @throws IOException if the temporary file can't be deleted.
+         */
+        public void abort() throws IOException {
+            if (closed)
+                return;
+            closed = true;
+
+            try {
+                channel.close();
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        }
+
+        /**
+         * Write the index and the trailer, and replace the snapshot file.
+         * @throws IOException if the file can't be written, or a previous write failed.
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed)
+                return;
+            if (failed) {
+                abort();
+                throw new IOException("Snapshot " + file + " was not replaced because a write failed.");
+            }
+            closed = true;
+
+            boolean sealed = false;
+            try {
+                writeIndex();
+                channel.force(false);
+                channel.close();
+                try {
+                    Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+                sealed = true;
+            } finally {
+                if (!sealed) {
+                    channel.close();
+                    Files.deleteIfExists(temporary);
+                }
+            }
+        }
+
+        private void writeIndex() throws IOException {
+            long indexOffset = position;
+            ByteBuffer buffer = ByteBuffer.allocate(8 * 1024);
+            for (int i = 0; i < offsets.size(); i++) {
+                if (buffer.remaining() < 8) {
+                    buffer.flip();
+                    writeFully(buffer);
+                    buffer.clear();
+                }
+                buffer.putLong(offsets.get(i));
+            }
+            if (buffer.remaining() < TRAILER_SIZE) {
+                buffer.flip();
+                writeFully(buffer);
+                buffer.clear();
+            }
+            buffer.putLong(indexOffset).putInt(offsets.size()).putInt(MAGIC);
+            buffer.flip();
+            writeFully(buffer);
+        }
+
+        private void writeFully(ByteBuffer... buffers) throws IOException {
+            long remaining = 0;
+            for (ByteBuffer buffer : buffers) {
+                remaining += buffer.remaining();
+            }
+            long written = remaining;
+            while (remaining > 0) {
+                remaining -= channel.write(buffers);
+            }
+            position += written;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.felix.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BloomFilterTest {
+
+    @Test
+    void putTest() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+        assertTrue(filter.put("Felix"));
+        assertFalse(filter.put("Felix"));
+        assertTrue(filter.mightContain("Felix"));
+    }
+
+    @Test
+    void falsePositiveRateTest() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 10_000; i < 20_000; i++) {
+            if (filter.mightContain(i))
+                falsePositives++;
+        }
+        assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+    }
+
+    @Test
+    void measuredFalsePositiveRateTest() {
+        for (double rate : new double[]{0.1, 0.01, 0.001}) {
+            BloomFilter filter = BloomFilter.create(100_000, rate);
+            for (long i = 1; i <= 100_000; i++) {
+                filter.putHash(i << 32);
+            }
+
+            // Keys equal to the inserted ones in the low 32 bits, so their Long.hashCode() collide.
+            int falsePositives = 0;
+            for (long i = 1; i <= 100_000; i++) {
+                assertTrue(filter.mightContainHash(i << 32));
+                if (filter.mightContainHash(i))
+                    falsePositives++;
+            }
+            double measured = falsePositives / 100_000.0;
+            assertTrue(measured < rate * 1.25, "Measured rate " + measured + " for " + rate);
+        }
+    }
+
+    @Test
+    void createTest() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(10, 1));
+        assertEquals(7, BloomFilter.create(1000, 0.01).hashFunctions());
+    }
+}
@@ -8,7 +8,10 @@ import java.util.Arrays;
 import java.util.*;
 
 import static com.felix.common.collection.Collections.anyMatch;
+import static com.felix.common.collection.Collections.approximateDistinctBy;
+import static com.felix.common.collection.Collections.approximateDistinctByHash;
 import static com.felix.common.collection.Collections.distinctBy;
+import static com.felix.common.collection.Collections.sequentialDistinctBy;
 import static com.felix.common.collection.Lists.filter;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -39,4 +42,49 @@ public class CollectionsTest {
         List<Person> collect = filter(persons, distinctBy(Person::getName));
         Assertions.assertEquals(2, collect.size());
     }
+
+    @Test
+    void sequentialDistinctByTest() {
+        List<Person> persons = Arrays.asList(
+                new Person(1, "Felix"),
+                new Person(2, "Felix"),
+                new Person(3, "Ricardo"));
+
+        List<Person> collect = filter(persons, sequentialDistinctBy(Person::getName));
+        assertEquals(2, collect.size());
+        assertEquals(1, collect.get(0).getId());
+    }
+
+    @Test
+    void distinctByWindowTest() {
+        List<Integer> numbers = Arrays.asList(1, 2, 1, 3, 1, 2);
+
+        assertEquals(Arrays.asList(1, 2, 3, 2), filter(numbers, distinctBy(n -> n, 2)));
+        assertEquals(Arrays.asList(1, 2, 3), filter(numbers, distinctBy(n -> n, 3)));
+        assertThrows(IllegalArgumentException.class, () -> distinctBy(n -> n, 0));
+    }
+
+    @Test
+    void approximateDistinctByTest() {
+        List<Person> persons = Arrays.asList(
+                new Person(1, "Felix"),
+                new Person(2, "Felix"),
+                new Person(3, "Ricardo"));
+
+        List<Person> collect = filter(persons, approximateDistinctBy(Person::getName, 100, 0.01));
+        assertEquals(2, collect.size());
+    }
+
+    @Test
+    void approximateDistinctByHashTest() {
+        List<Long> ids = new ArrayList<>();
+        for (long i = 1; i <= 10_000; i++) {
+            ids.add(i);
+            ids.add(i << 32);
+            ids.add(i);
+        }
+
+        List<Long> collect = filter(ids, approximateDistinctByHash(Long::longValue, 20_000, 0.001));
+        assertTrue(collect.size() > 19_900 && collect.size() <= 20_000, "Distinct: " + collect.size());
+    }
 }
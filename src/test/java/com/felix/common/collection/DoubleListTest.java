@@ -0,0 +1,44 @@
+package com.felix.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleListTest {
+
+    @Test
+    void addAndGetTest() {
+        DoubleList list = DoubleList.of(1.5d, 2.5d);
+        list.add(3.5d);
+        assertEquals(3, list.size());
+        assertEquals(2.5d, list.get(1));
+        assertTrue(list.contains(3.5d));
+        assertFalse(list.contains(4d));
+    }
+
+    @Test
+    void indexOfTest() {
+        DoubleList list = DoubleList.of(0d, Double.NaN, -0d);
+        assertEquals(1, list.indexOf(Double.NaN));
+        assertTrue(list.contains(Double.NaN));
+        assertEquals(0, list.indexOf(0d));
+        assertEquals(2, list.indexOf(-0d));
+    }
+
+    @Test
+    void mapAndFilterTest() {
+        DoubleList list = DoubleList.of(1d, 2d, 3d);
+        assertEquals(DoubleList.of(0.5d, 1d, 1.5d), list.map(d -> d / 2));
+        assertEquals(DoubleList.of(3d), list.filter(d -> d > 2));
+        assertEquals(6d, list.stream().sum());
+    }
+
+    @Test
+    void groupByTest() {
+        Map<Boolean, DoubleList> map = DoubleList.of(1d, 2d, 3d).groupBy(d -> d > 1);
+        assertEquals(DoubleList.of(2d, 3d), map.get(true));
+        assertEquals(DoubleList.of(1.2d, 1.7d), DoubleList.of(1.2d, 2.1d, 1.7d).groupByLong(d -> (long) d).get(1));
+    }
+}
@@ -0,0 +1,47 @@
+package com.felix.common.collection;
+
+import com.felix.common.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedListFilterTest {
+
+    private final List<Person> list = Arrays.asList(new Person(1, "Felix"),
+            new Person(2, "Ricardo"),
+            new Person(3, "Felix"));
+
+    @Test
+    void nextTest() {
+        IndexedListFilter<Person, String> filter = ListFilter.of(list)
+                .compareWith(Person::getName)
+                .indexed();
+
+        Optional<Person> next = filter.next("Felix");
+
+        assertTrue(next.isPresent());
+        assertEquals(1, next.get().getId());
+        assertFalse(filter.next("João").isPresent());
+    }
+
+    @Test
+    void allTest() {
+        IndexedListFilter<Person, String> filter = ListFilter.of(list)
+                .compareWith(Person::getName)
+                .indexed();
+
+        assertEquals(2, filter.all("Felix").size());
+        assertEquals(3, filter.all("Felix").get(1).getId());
+        assertTrue(filter.all("João").isEmpty());
+        assertEquals(2, filter.keyCount());
+    }
+
+    @Test
+    void indexedWithoutCompareFunctionTest() {
+        assertThrows(NullPointerException.class, () -> ListFilter.of(list).indexed());
+    }
+}
@@ -0,0 +1,51 @@
+package com.felix.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntHashSetTest {
+
+    @Test
+    void addAndContainsTest() {
+        IntHashSet set = IntHashSet.of(1, 2, 0);
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(2));
+        assertFalse(set.contains(3));
+        assertFalse(set.add(1));
+        assertTrue(set.add(3));
+        assertEquals(4, set.size());
+    }
+
+    @Test
+    void removeTest() {
+        IntHashSet set = IntHashSet.of(0, 1, 2);
+        assertTrue(set.remove(0));
+        assertTrue(set.remove(1));
+        assertFalse(set.remove(1));
+        assertEquals(1, set.size());
+        assertArrayEquals(new int[]{2}, set.toArray());
+    }
+
+    @Test
+    void randomOperationsTest() {
+        IntHashSet set = new IntHashSet();
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt(2000) - 1000;
+            if (random.nextBoolean())
+                assertEquals(expected.add(value), set.add(value));
+            else
+                assertEquals(expected.remove(value), set.remove(value));
+        }
+        assertEquals(expected.size(), set.size());
+        for (int value = -1000; value < 1000; value++) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+    }
+}
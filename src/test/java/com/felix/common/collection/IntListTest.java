@@ -0,0 +1,74 @@
+package com.felix.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntListTest {
+
+    @Test
+    void addAndGetTest() {
+        IntList list = new IntList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertEquals(100, list.size());
+        assertEquals(42, list.get(42));
+        assertEquals(42, list.set(42, -1));
+        assertEquals(-1, list.get(42));
+        assertEquals(0, list.removeAt(0));
+        assertEquals(99, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(99));
+    }
+
+    @Test
+    void containsTest() {
+        IntList list = IntList.of(3, 1, 2);
+        assertTrue(list.contains(1));
+        assertFalse(list.contains(4));
+        assertEquals(2, list.indexOf(2));
+    }
+
+    @Test
+    void sortTest() {
+        IntList list = IntList.of(3, 1, 2);
+        list.sort();
+        assertArrayEquals(new int[]{1, 2, 3}, list.toArray());
+    }
+
+    @Test
+    void mapTest() {
+        assertEquals(IntList.of(2, 4, 6), IntList.of(1, 2, 3).map(i -> i * 2));
+        assertEquals(Arrays.asList("1", "2"), IntList.of(1, 2).mapToObj(String::valueOf));
+    }
+
+    @Test
+    void filterTest() {
+        assertEquals(IntList.of(2, 4), IntList.of(1, 2, 3, 4).filter(i -> i % 2 == 0));
+    }
+
+    @Test
+    void groupByTest() {
+        IntList list = IntList.of(1, 2, 3, 4, 5);
+        Map<Boolean, IntList> map = list.groupBy(i -> i % 2 == 0);
+        assertEquals(IntList.of(2, 4), map.get(true));
+        assertEquals(IntList.of(1, 3, 5), map.get(false));
+
+        LongObjectMap<IntList> byLong = list.groupByLong(i -> i % 3);
+        assertEquals(IntList.of(3), byLong.get(0));
+        assertEquals(IntList.of(1, 4), byLong.get(1));
+    }
+
+    @Test
+    void streamTest() {
+        assertEquals(6, IntList.of(1, 2, 3).stream().sum());
+        List<Integer> values = new ArrayList<>();
+        IntList.of(1, 2).forEach(values::add);
+        assertEquals(Arrays.asList(1, 2), values);
+    }
+}
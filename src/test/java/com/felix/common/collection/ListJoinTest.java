@@ -0,0 +1,66 @@
+package com.felix.common.collection;
+
+import com.felix.common.Person;
+import com.felix.common.Phone;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ListJoinTest {
+
+    private final List<Person> persons = Arrays.asList(
+            new Person(1, "Felix", new Phone("46", "1")),
+            new Person(2, "Ricardo", new Phone("47", "2")),
+            new Person(3, "João", new Phone("48", "3")),
+            new Person(4, "Felipe", null));
+
+    private final List<Phone> phones = Arrays.asList(
+            new Phone("46", "9"),
+            new Phone("48", "8"),
+            new Phone("48", "7"));
+
+    @Test
+    void innerTest() {
+        List<String> joined = ListJoin.of(persons, phones)
+                .on(p -> p.getPhone() == null ? null : p.getPhone().getDd(), Phone::getDd)
+                .inner((p, ph) -> p.getName() + ph.getPhoneNumber());
+        assertEquals(Arrays.asList("Felix9", "João8", "João7"), joined);
+    }
+
+    @Test
+    void innerBuildingOnLeftTest() {
+        List<Phone> manyPhones = new ArrayList<>(phones);
+        for (int i = 0; i < 10; i++) {
+            manyPhones.add(new Phone("99", String.valueOf(i)));
+        }
+        List<String> joined = ListJoin.of(persons.subList(0, 3), manyPhones)
+                .on(p -> p.getPhone().getDd(), Phone::getDd)
+                .inner((p, ph) -> p.getName() + ph.getPhoneNumber());
+        assertEquals(Arrays.asList("Felix9", "João8", "João7"), joined);
+    }
+
+    @Test
+    void leftTest() {
+        List<String> joined = ListJoin.of(persons, phones)
+                .on(p -> p.getPhone() == null ? null : p.getPhone().getDd(), Phone::getDd)
+                .left((p, ph) -> p.getName() + (ph == null ? "-" : ph.getPhoneNumber()));
+        assertEquals(Arrays.asList("Felix9", "Ricardo-", "João8", "João7", "Felipe-"), joined);
+    }
+
+    @Test
+    void semiAndAntiTest() {
+        ListJoin<Person, Phone, String> join = ListJoin.of(persons, phones)
+                .on(p -> p.getPhone() == null ? null : p.getPhone().getDd(), Phone::getDd);
+        assertEquals(Arrays.asList(1, 3), Lists.map(join.semi(), Person::getId));
+        assertEquals(Arrays.asList(2, 4), Lists.map(join.anti(), Person::getId));
+
+        ListJoin<Phone, Person, String> reversed = ListJoin.of(phones.subList(0, 1), persons)
+                .on(Phone::getDd, p -> p.getPhone() == null ? null : p.getPhone().getDd());
+        assertEquals(1, reversed.semi().size());
+        assertTrue(reversed.anti().isEmpty());
+    }
+}
@@ -4,9 +4,11 @@ import com.felix.common.Person;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.*;
+import java.util.stream.IntStream;
 
 import static com.felix.common.collection.Collections.anyMatch;
 import static com.felix.common.collection.Lists.*;
@@ -59,4 +61,159 @@ public class ListsTest {
         assertEquals(personList.get(1), personListSorted.get(0));
     }
 
+    @Test
+    void sortCallsFunctionOncePerElementTest() {
+        List<Person> personList = Arrays.asList(new Person(3, "Felix"), new Person(2, "Ricardo"), new Person(4, "João"));
+        int[] calls = {0};
+        sort(personList, p -> {
+            calls[0]++;
+            return p.getId();
+        });
+        assertEquals(3, calls[0]);
+    }
+
+    @Test
+    void sortByKeysTest() {
+        List<Person> personList = Arrays.asList(new Person(2, "Felix"), new Person(3, "Ricardo"), new Person(1, "Felix"));
+        List<Person> personListSorted = sortByKeys(personList, Person::getName, Person::getId);
+        assertEquals(personList.get(2), personListSorted.get(0));
+        assertEquals(personList.get(0), personListSorted.get(1));
+        assertEquals(personList.get(1), personListSorted.get(2));
+    }
+
+    @Test
+    void sortInPlaceTest() {
+        List<Person> personList = new ArrayList<>(Arrays.asList(new Person(3, "Felix"), new Person(2, "Ricardo"), new Person(4, "João")));
+        Person ricardo = personList.get(1);
+        sortInPlace(personList, Person::getId);
+        assertSame(ricardo, personList.get(0));
+        assertEquals(4, personList.get(2).getId());
+    }
+
+    @Test
+    void mappedViewTest() {
+        List<String> stringList = new ArrayList<>(Arrays.asList("1", "2", "3"));
+        List<Integer> view = mappedView(stringList, Integer::valueOf);
+        assertEquals(3, view.size());
+        assertEquals(2, view.get(1));
+        assertTrue(view instanceof RandomAccess);
+
+        stringList.add("4");
+        assertEquals(4, view.get(3));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(5));
+    }
+
+    @Test
+    void mappedViewSequentialTest() {
+        List<String> stringList = new LinkedList<String>(Arrays.asList("1", "2", "3")) {
+            @Override
+            public String get(int index) {
+                throw new AssertionError("Read by index.");
+            }
+        };
+        List<Integer> view = mappedView(stringList, Integer::valueOf);
+        assertFalse(view instanceof RandomAccess);
+        assertEquals(Arrays.asList(1, 2, 3), view);
+        assertEquals("[1, 2, 3]", view.toString());
+        assertEquals(6, view.stream().mapToInt(Integer::intValue).sum());
+
+        ListIterator<Integer> iterator = view.listIterator(3);
+        assertEquals(3, iterator.previous());
+        assertEquals(1, iterator.previousIndex());
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    void pipelineTest() {
+        List<Person> personList = Arrays.asList(new Person(1, "Felix"), new Person(2, "Ricardo"),
+                new Person(3, "João"), new Person(4, "Felipe"));
+        ListPipeline<String> names = pipeline(personList)
+                .filter(p -> p.getId() > 1)
+                .map(Person::getName);
+
+        assertEquals(Arrays.asList("Ricardo", "João", "Felipe"), names.toList());
+        assertEquals(Arrays.asList("Ricardo", "João"), names.limit(2).toList());
+        assertEquals(1, names.filter(n -> n.startsWith("F")).count());
+        assertTrue(names.limit(0).toList().isEmpty());
+    }
+
+    @Test
+    void pipelineLimitStopsReadingTest() {
+        List<Integer> numbers = Arrays.asList(1, 2, 3, 4, 5);
+        int[] reads = {0};
+        List<Integer> result = pipeline(numbers)
+                .map(n -> {
+                    reads[0]++;
+                    return n * 10;
+                })
+                .limit(2)
+                .toList();
+        assertEquals(Arrays.asList(10, 20), result);
+        assertEquals(2, reads[0]);
+    }
+
+    @Test
+    void topKTest() {
+        List<Person> personList = Arrays.asList(new Person(3, "Felix"), new Person(2, "Ricardo"),
+                new Person(5, "João"), new Person(1, "Felipe"));
+        List<Person> top = topK(personList, 2, Person::getId);
+        assertEquals(2, top.size());
+        assertEquals(5, top.get(0).getId());
+        assertEquals(3, top.get(1).getId());
+        assertEquals(4, topK(personList, 10, Person::getId).size());
+        assertTrue(topK(personList, 0, Person::getId).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> topK(personList, -1, Person::getId));
+    }
+
+    @Test
+    void bottomKTest() {
+        List<Person> personList = Arrays.asList(new Person(3, "Felix"), new Person(2, "Ricardo"),
+                new Person(5, "João"), new Person(1, "Felipe"));
+        List<Person> bottom = bottomK(personList, 3, Person::getId);
+        assertEquals(Arrays.asList(1, 2, 3), map(bottom, Person::getId));
+    }
+
+    @Test
+    void toTopKTest() {
+        List<Integer> top = IntStream.range(0, 100_000)
+                .boxed()
+                .collect(toTopK(3, n -> n % 1000));
+        assertEquals(3, top.size());
+        assertTrue(top.stream().allMatch(n -> n % 1000 == 999));
+    }
+
+    @Test
+    void groupCountTest() {
+        List<Person> personList = Arrays.asList(new Person(1, "Felix"), new Person(2, "Felix"), new Person(3, "Ricardo"));
+        Map<String, Long> map = groupCount(personList, Person::getName);
+        assertEquals(2L, map.get("Felix"));
+        assertEquals(1L, map.get("Ricardo"));
+    }
+
+    @Test
+    void groupSumTest() {
+        List<Person> personList = Arrays.asList(new Person(1, "Felix"), new Person(2, "Felix"), new Person(3, "Ricardo"));
+        assertEquals(3L, groupSumLong(personList, Person::getName, Person::getId).get("Felix"));
+        assertEquals(new BigDecimal(3), groupSumBigDecimal(personList, Person::getName,
+                p -> p.getId() == 2 ? null : new BigDecimal(p.getId())).get("Ricardo"));
+        assertEquals(new BigDecimal(1), groupSumBigDecimal(personList, Person::getName,
+                p -> p.getId() == 2 ? null : new BigDecimal(p.getId())).get("Felix"));
+    }
+
+    @Test
+    void groupMinMaxTest() {
+        List<Person> personList = Arrays.asList(new Person(2, "Felix"), new Person(1, "Felix"), new Person(3, "Felix"));
+        assertEquals(1, groupMin(personList, Person::getName, Person::getId).get("Felix").getId());
+        assertEquals(3, groupMax(personList, Person::getName, Person::getId).get("Felix").getId());
+    }
+
+    @Test
+    void groupReduceAndAggregateTest() {
+        List<Person> personList = Arrays.asList(new Person(1, "Felix"), new Person(2, "Felix"), new Person(3, "Ricardo"));
+        assertEquals("1,2", groupReduce(personList, Person::getName, p -> String.valueOf(p.getId()), (a, b) -> a + "," + b).get("Felix"));
+
+        Map<String, StringBuilder> map = groupAggregate(personList, Person::getName, StringBuilder::new,
+                (sb, p) -> sb.append(p.getId()), StringBuilder::append);
+        assertEquals("12", map.get("Felix").toString());
+    }
 }
@@ -0,0 +1,40 @@
+package com.felix.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongHashSetTest {
+
+    @Test
+    void addAndContainsTest() {
+        LongHashSet set = LongHashSet.of(1L, Long.MAX_VALUE, 0L);
+        assertTrue(set.contains(Long.MAX_VALUE));
+        assertTrue(set.contains(0L));
+        assertFalse(set.contains(2L));
+        assertEquals(3, set.size());
+        assertEquals(LongHashSet.of(0L, 1L, Long.MAX_VALUE), set);
+    }
+
+    @Test
+    void randomOperationsTest() {
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long value = (random.nextInt(2000) - 1000) * 1_000_000_007L;
+            if (random.nextBoolean())
+                assertEquals(expected.add(value), set.add(value));
+            else
+                assertEquals(expected.remove(value), set.remove(value));
+        }
+        assertEquals(expected.size(), set.size());
+        for (long value : expected) {
+            assertTrue(set.contains(value));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.felix.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongListTest {
+
+    @Test
+    void addAndGetTest() {
+        LongList list = new LongList(2);
+        list.addAll(1L, 2L, 3L);
+        list.addAll(LongList.of(4L));
+        assertEquals(4, list.size());
+        assertEquals(4L, list.get(3));
+        assertEquals(2L, list.removeAt(1));
+        assertArrayEquals(new long[]{1L, 3L, 4L}, list.toArray());
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void mapAndFilterTest() {
+        LongList list = LongList.of(1L, 2L, 3L, 4L);
+        assertEquals(LongList.of(10L, 20L, 30L, 40L), list.map(l -> l * 10));
+        assertEquals(LongList.of(3L, 4L), list.filter(l -> l > 2));
+    }
+
+    @Test
+    void groupByTest() {
+        Map<Long, LongList> map = LongList.of(1L, 2L, 3L).groupBy(l -> l % 2);
+        assertEquals(LongList.of(1L, 3L), map.get(1L));
+        assertEquals(LongList.of(2L), LongList.of(1L, 2L, 3L).groupByLong(l -> l % 2).get(0));
+    }
+}
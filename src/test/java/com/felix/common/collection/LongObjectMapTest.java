@@ -0,0 +1,72 @@
+package com.felix.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongObjectMapTest {
+
+    @Test
+    void putAndGetTest() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        assertNull(map.put(1L, "Felix"));
+        assertNull(map.put(0L, "Zero"));
+        assertEquals("Felix", map.put(1L, "Ricardo"));
+        assertEquals("Ricardo", map.get(1L));
+        assertEquals("Zero", map.get(0L));
+        assertEquals("None", map.getOrDefault(2L, "None"));
+        assertTrue(map.containsKey(0L));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void computeIfAbsentTest() {
+        LongObjectMap<LongList> map = new LongObjectMap<>();
+        map.computeIfAbsent(5L, k -> new LongList()).add(1L);
+        map.computeIfAbsent(5L, k -> new LongList()).add(2L);
+        assertEquals(LongList.of(1L, 2L), map.get(5L));
+    }
+
+    @Test
+    void randomOperationsTest() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(3000) - 1500;
+            if (random.nextInt(3) > 0)
+                assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            else
+                assertEquals(expected.remove(key), map.remove(key));
+        }
+        assertEquals(expected.size(), map.size());
+        map.forEach((key, value) -> assertEquals(expected.get(key), value));
+        assertEquals(expected.size(), map.keys().length);
+    }
+
+    @Test
+    void equalsTest() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        LongObjectMap<String> other = new LongObjectMap<>(1000);
+        for (long key = 0; key < 100; key++) {
+            map.put(key, key == 50 ? null : "Value " + key);
+            other.put(99 - key, key == 49 ? null : "Value " + (99 - key));
+        }
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+
+        other.put(50, "Value 50");
+        assertNotEquals(map, other);
+        other.remove(50);
+        assertNotEquals(map, other);
+        other.put(50, null);
+        assertEquals(map, other);
+        other.put(0, null);
+        assertNotEquals(map, other);
+        assertNotEquals(new LongObjectMap<>(), null);
+    }
+}
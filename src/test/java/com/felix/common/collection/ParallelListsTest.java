@@ -0,0 +1,80 @@
+package com.felix.common.collection;
+
+import com.felix.common.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelListsTest {
+
+    private final List<Integer> numbers = IntStream.range(0, 1000)
+            .boxed()
+            .collect(Collectors.toList());
+
+    @Test
+    void mapTest() {
+        List<String> strings = Lists.parallel(10).map(numbers, String::valueOf);
+        assertEquals(Lists.map(numbers, String::valueOf), strings);
+        assertThrows(NullPointerException.class, () -> Lists.parallel().map(null, Object::toString));
+    }
+
+    @Test
+    void filterTest() {
+        List<Integer> even = Lists.parallel(10).filter(numbers, n -> n % 2 == 0);
+        assertEquals(Lists.filter(numbers, n -> n % 2 == 0), even);
+    }
+
+    @Test
+    void groupByTest() {
+        Map<Integer, List<Integer>> map = Lists.parallel(10).groupBy(numbers, n -> n % 7);
+        assertEquals(Lists.groupBy(numbers, n -> n % 7), map);
+    }
+
+    @Test
+    void sortTest() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new Person(i % 10, "Person " + i));
+        }
+        List<Person> sorted = Lists.parallel(10).sort(persons, Person::getId);
+        assertEquals(Lists.sort(persons, Person::getId), sorted);
+    }
+
+    @Test
+    void withThresholdTest() {
+        assertEquals(ParallelLists.DEFAULT_THRESHOLD, Lists.parallel().getThreshold());
+        assertThrows(IllegalArgumentException.class, () -> Lists.parallel(0));
+    }
+
+    @Test
+    void sortInPlaceTest() {
+        List<Integer> reversed = new ArrayList<>(numbers);
+        java.util.Collections.reverse(reversed);
+        Lists.parallel(10).sortInPlace(reversed, n -> n);
+        assertEquals(numbers, reversed);
+    }
+
+    @Test
+    void topKTest() {
+        assertEquals(Arrays.asList(999, 998, 997), Lists.parallel(10).topK(numbers, 3, n -> n));
+        assertEquals(Arrays.asList(0, 1, 2), Lists.parallel(10).bottomK(numbers, 3, n -> n));
+    }
+
+    @Test
+    void groupAggregateTest() {
+        ParallelLists parallel = Lists.parallel(10);
+        assertEquals(Lists.groupCount(numbers, n -> n % 7), parallel.groupCount(numbers, n -> n % 7));
+        assertEquals(Lists.groupSumLong(numbers, n -> n % 7, n -> n), parallel.groupSumLong(numbers, n -> n % 7, n -> n));
+        assertEquals(993, parallel.groupMax(numbers, n -> n % 7, n -> n).get(6));
+        assertEquals(6, parallel.groupMin(numbers, n -> n % 7, n -> n).get(6));
+        assertEquals(Lists.groupReduce(numbers, n -> n % 7, n -> n, Integer::sum),
+                parallel.groupReduce(numbers, n -> n % 7, n -> n, Integer::sum));
+    }
+}
@@ -0,0 +1,86 @@
+package com.felix.common.collection;
+
+import com.felix.common.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortedSetFilterTest {
+
+    private final Set<Person> set = new HashSet<>(Arrays.asList(new Person(1, "Felix"),
+            new Person(5, "Ricardo"),
+            new Person(3, "Felipe"),
+            new Person(8, "João")));
+
+    @Test
+    void nextTest() {
+        SortedSetFilter<Person, Integer> filter = SortedSetFilter.of(set).compareWith(Person::getId);
+
+        assertEquals("Felipe", filter.next(3).get().getName());
+        assertFalse(filter.next(4).isPresent());
+        assertEquals(4, filter.size());
+    }
+
+    @Test
+    void rangeTest() {
+        SortedSetFilter<Person, Integer> filter = SortedSetFilter.of(set).compareWith(Person::getId);
+
+        List<Person> range = filter.range(3, 8);
+        assertEquals(2, range.size());
+        assertEquals(3, range.get(0).getId());
+        assertEquals(5, range.get(1).getId());
+        assertEquals(3, filter.range(3, true, 8, true).size());
+        assertEquals(1, filter.range(3, false, 8, false).size());
+        assertTrue(filter.range(6, 7).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> filter.range(8, 3));
+    }
+
+    @Test
+    void floorAndCeilingTest() {
+        SortedSetFilter<Person, Integer> filter = SortedSetFilter.of(set).compareWith(Person::getId);
+
+        assertEquals(3, filter.floor(4).get().getId());
+        assertEquals(5, filter.ceiling(4).get().getId());
+        assertEquals(5, filter.floor(5).get().getId());
+        assertFalse(filter.floor(0).isPresent());
+        assertFalse(filter.ceiling(9).isPresent());
+    }
+
+    @Test
+    void prefixTest() {
+        SortedSetFilter<Person, String> filter = SortedSetFilter.of(set).compareWith(Person::getName);
+
+        List<Person> persons = filter.prefix("Fel");
+        assertEquals(2, persons.size());
+        assertEquals("Felipe", persons.get(0).getName());
+        assertTrue(filter.prefix("X").isEmpty());
+
+        SortedSetFilter<Person, String> ignoreCase = SortedSetFilter.of(set)
+                .compareWith(Person::getName, String.CASE_INSENSITIVE_ORDER);
+        assertThrows(IllegalStateException.class, () -> ignoreCase.prefix("Fel"));
+        SortedSetFilter<Person, String> reversed = SortedSetFilter.of(set)
+                .compareWith(Person::getName, Comparator.reverseOrder());
+        assertThrows(IllegalStateException.class, () -> reversed.prefix("Fel"));
+    }
+
+    @Test
+    void compositeTest() {
+        Set<Person> persons = new HashSet<>(Arrays.asList(new Person(2, "Felix"),
+                new Person(1, "Felix"),
+                new Person(1, "Ricardo")));
+        SortedSetFilter<Person, CompositeKey> filter = SortedSetFilter.of(persons)
+                .compareWithAll(Person::getName, Person::getId);
+
+        assertEquals(2, filter.next(CompositeKey.of("Felix", 2)).get().getId());
+        List<Person> felix = filter.prefix(CompositeKey.of("Felix"));
+        assertEquals(2, felix.size());
+        assertEquals(1, felix.get(0).getId());
+        assertEquals(3, filter.range(CompositeKey.of("Felix"), CompositeKey.of("Ricardo", 2)).size());
+    }
+}
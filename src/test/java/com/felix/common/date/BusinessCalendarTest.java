@@ -0,0 +1,96 @@
+package com.felix.common.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BusinessCalendarTest {
+
+    private final LocalDate from = LocalDate.of(2018, 1, 1);
+    private final LocalDate to = LocalDate.of(2025, 12, 31);
+    private final Set<LocalDate> holidays = new HashSet<>(Arrays.asList(
+            LocalDate.of(2020, 12, 25), LocalDate.of(2021, 1, 1), LocalDate.of(2021, 4, 21), LocalDate.of(1999, 1, 1)));
+    private final BusinessCalendar calendar = BusinessCalendar.of(from, to, holidays);
+
+    @Test
+    void isBusinessDayTest() {
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2020, 12, 24)));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2020, 12, 25)));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2020, 12, 26)));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2020, 12, 27)));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2020, 12, 28)));
+
+        BusinessCalendar fridays = BusinessCalendar.of(from, to, EnumSet.of(DayOfWeek.FRIDAY), Collections.emptyList());
+        assertFalse(fridays.isBusinessDay(LocalDate.of(2020, 12, 25)));
+        assertTrue(fridays.isBusinessDay(LocalDate.of(2020, 12, 26)));
+    }
+
+    @Test
+    void businessDaysBetweenTest() {
+        Random random = new Random(17);
+        List<LocalDate> days = Dates.getInterval(from, to, ChronoUnit.DAYS);
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(days.size());
+            int end = random.nextInt(days.size() + 1);
+            int expected = 0;
+            for (int j = Math.min(start, end); j < Math.max(start, end); j++) {
+                if (isBusinessDay(days.get(j)))
+                    expected++;
+            }
+            LocalDate endDate = from.plusDays(end);
+            assertEquals(start <= end ? expected : -expected, calendar.businessDaysBetween(days.get(start), endDate));
+        }
+        assertEquals(2, calendar.businessDaysBetween(LocalDate.of(2020, 12, 24), LocalDate.of(2020, 12, 29)));
+    }
+
+    @Test
+    void addBusinessDaysTest() {
+        Random random = new Random(18);
+        for (int i = 0; i < 500; i++) {
+            LocalDate date = from.plusDays(20 + random.nextInt(2800));
+            int businessDays = random.nextInt(21) - 10;
+            assertEquals(addSlowly(date, businessDays), calendar.addBusinessDays(date, businessDays));
+        }
+        assertEquals(LocalDate.of(2020, 12, 28), calendar.nextBusinessDay(LocalDate.of(2020, 12, 24)));
+        assertEquals(LocalDate.of(2020, 12, 24), calendar.previousBusinessDay(LocalDate.of(2020, 12, 28)));
+        assertEquals(LocalDate.of(2020, 12, 26), calendar.addBusinessDays(LocalDate.of(2020, 12, 26), 0));
+        assertEquals(LocalDate.of(2021, 1, 4), calendar.nextBusinessDay(LocalDate.of(2020, 12, 31)));
+    }
+
+    @Test
+    void outsideCalendarTest() {
+        assertThrows(IllegalArgumentException.class, () -> calendar.isBusinessDay(to.plusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> calendar.businessDaysBetween(from.minusDays(1), to));
+        assertEquals(calendar.businessDaysBetween(from, to) + 1, calendar.businessDaysBetween(from, to.plusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> calendar.nextBusinessDay(to));
+        assertThrows(IllegalArgumentException.class, () -> calendar.previousBusinessDay(from));
+        assertThrows(IllegalArgumentException.class, () -> BusinessCalendar.of(to, from, holidays));
+        assertThrows(NullPointerException.class, () -> BusinessCalendar.of(from, to, null));
+    }
+
+    private boolean isBusinessDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY && !holidays.contains(date);
+    }
+
+    private LocalDate addSlowly(LocalDate date, int businessDays) {
+        int step = businessDays > 0 ? 1 : -1;
+        for (int remaining = Math.abs(businessDays); remaining > 0; ) {
+            date = date.plusDays(step);
+            if (isBusinessDay(date))
+                remaining--;
+        }
+        return date;
+    }
+}
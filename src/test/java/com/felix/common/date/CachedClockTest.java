@@ -0,0 +1,66 @@
+package com.felix.common.date;
+
+import com.felix.common.concurrent.Threads;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachedClockTest {
+
+    private final ZoneId saoPaulo = ZoneId.of("America/Sao_Paulo");
+
+    @Test
+    void readsTest() {
+        try (CachedClock clock = CachedClock.start(5, saoPaulo)) {
+            long before = System.currentTimeMillis();
+            Threads.sleep(50);
+            long millis = clock.millis();
+            long after = System.currentTimeMillis();
+
+            assertTrue(millis > before, "Ticker did not update the clock.");
+            assertTrue(millis <= after);
+            assertEquals(5, clock.getResolutionMillis());
+            assertEquals(saoPaulo, clock.getZone());
+        }
+
+        // A resolution longer than the test, so all reads see the same tick.
+        try (CachedClock clock = CachedClock.start(60_000, saoPaulo)) {
+            assertSame(clock.localDateTime(), clock.localDateTime());
+
+            long tick = clock.millis();
+            assertEquals(ZoneConversions.toLocalDateTime(tick, saoPaulo), clock.localDateTime());
+            assertEquals(clock.localDateTime().toLocalDate(), clock.localDate());
+            assertEquals(tick, clock.date().getTime());
+            assertEquals(tick, clock.instant().toEpochMilli());
+        }
+    }
+
+    @Test
+    void asClockTest() {
+        try (CachedClock cachedClock = CachedClock.start(1, saoPaulo)) {
+            Clock clock = cachedClock.asClock();
+            assertEquals(saoPaulo, clock.getZone());
+            assertSame(clock, clock.withZone(saoPaulo));
+            assertEquals(ZoneId.of("UTC"), clock.withZone(ZoneId.of("UTC")).getZone());
+
+            LocalDateTime now = LocalDateTime.now(clock);
+            assertTrue(Math.abs(now.atZone(saoPaulo).toInstant().toEpochMilli() - System.currentTimeMillis()) < 1000);
+            assertEquals(clock.millis() / 1000, ZonedDateTime.now(clock).toEpochSecond(), 1);
+        }
+    }
+
+    @Test
+    void closeTest() {
+        CachedClock clock = CachedClock.start(1000);
+        clock.close();
+        Threads.sleep(20);
+        assertTrue(System.currentTimeMillis() - clock.millis() < 10);
+        assertThrows(IllegalArgumentException.class, () -> CachedClock.start(0));
+        assertThrows(NullPointerException.class, () -> CachedClock.start(1, null));
+    }
+}
@@ -0,0 +1,76 @@
+package com.felix.common.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateFieldsTest {
+
+    private final ZoneId saoPaulo = ZoneId.of("America/Sao_Paulo");
+
+    @Test
+    void fieldsTest() {
+        long epochMillis = ZonedDateTime.of(2019, 12, 18, 23, 30, 0, 0, saoPaulo).toInstant().toEpochMilli();
+        assertEquals(2019, DateFields.year(epochMillis, saoPaulo));
+        assertEquals(12, DateFields.month(epochMillis, saoPaulo));
+        assertEquals(18, DateFields.dayOfMonth(epochMillis, saoPaulo));
+        assertEquals(19, DateFields.dayOfMonth(epochMillis, ZoneId.of("UTC")));
+    }
+
+    @Test
+    void sameAsCalendarTest() {
+        Random random = new Random(42);
+        long from = LocalDate.of(1700, 1, 1).atStartOfDay(ZoneId.of("UTC")).toInstant().toEpochMilli();
+        long to = LocalDate.of(2100, 1, 1).atStartOfDay(ZoneId.of("UTC")).toInstant().toEpochMilli();
+        for (String zoneId : new String[]{"America/Sao_Paulo", "Asia/Kolkata", "Europe/Amsterdam", "Africa/Casablanca",
+                "America/New_York", "Australia/Lord_Howe"}) {
+            ZoneId zone = ZoneId.of(zoneId);
+            for (int i = 0; i < 10_000; i++) {
+                assertSameAsCalendar(from + (long) (random.nextDouble() * (to - from)), zone);
+            }
+        }
+        assertSameAsCalendar(3_088_191_931_165L, ZoneId.of("Africa/Casablanca"));
+    }
+
+    @Test
+    void julianCalendarTest() {
+        long epochMillis = LocalDate.of(1000, 6, 15).atStartOfDay(ZoneId.of("UTC")).toInstant().toEpochMilli();
+        Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        cal.setTimeInMillis(epochMillis);
+        assertEquals(cal.get(Calendar.DAY_OF_MONTH), DateFields.dayOfMonth(epochMillis, ZoneId.of("UTC")));
+    }
+
+    @Test
+    void splitTest() {
+        long[] epochMillis = {
+                Instant.parse("2019-12-18T12:00:00Z").toEpochMilli(),
+                Instant.parse("1969-12-31T23:59:59.999Z").toEpochMilli(),
+                Instant.parse("2000-02-29T00:00:00Z").toEpochMilli()};
+        int[] years = new int[3];
+        int[] months = new int[3];
+        int[] days = new int[3];
+        DateFields.split(epochMillis, years, months, days, ZoneId.of("UTC"));
+
+        assertArrayEquals(new int[]{2019, 1969, 2000}, years);
+        assertArrayEquals(new int[]{12, 12, 2}, months);
+        assertArrayEquals(new int[]{18, 31, 29}, days);
+        assertThrows(IllegalArgumentException.class, () -> DateFields.split(epochMillis, new int[2], months, days));
+    }
+
+    private void assertSameAsCalendar(long epochMillis, ZoneId zone) {
+        Calendar cal = Calendar.getInstance(TimeZone.getTimeZone(zone));
+        cal.setTimeInMillis(epochMillis);
+        String message = zone + " epoch millis " + epochMillis;
+        assertEquals(cal.get(Calendar.YEAR), DateFields.year(epochMillis, zone), message);
+        assertEquals(cal.get(Calendar.MONTH) + 1, DateFields.month(epochMillis, zone), message);
+        assertEquals(cal.get(Calendar.DAY_OF_MONTH), DateFields.dayOfMonth(epochMillis, zone), message);
+    }
+}
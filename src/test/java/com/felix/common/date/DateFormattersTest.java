@@ -0,0 +1,83 @@
+package com.felix.common.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateFormattersTest {
+
+    @Test
+    void ofPatternTest() {
+        DateFormatters.clear();
+        DateTimeFormatter formatter = DateFormatters.ofPattern("dd/MM/yyyy");
+        assertSame(formatter, DateFormatters.ofPattern("dd/MM/yyyy"));
+        assertEquals(1, DateFormatters.hits());
+        assertEquals(1, DateFormatters.misses());
+        assertThrows(IllegalArgumentException.class, () -> DateFormatters.ofPattern("dd/MM/yyyy {"));
+        assertThrows(NullPointerException.class, () -> DateFormatters.ofPattern(null));
+    }
+
+    @Test
+    void leastRecentlyUsedTest() {
+        DateFormatters.clear();
+        DateTimeFormatter first = DateFormatters.ofPattern("yyyy");
+        DateTimeFormatter second = DateFormatters.ofPattern("yyyy-MM");
+        for (int i = 2; i < DateFormatters.MAX_SIZE; i++) {
+            DateFormatters.ofPattern("'" + i + "'yyyy");
+        }
+        assertSame(first, DateFormatters.ofPattern("yyyy"));
+
+        DateFormatters.ofPattern("'full'yyyy");
+        assertSame(first, DateFormatters.ofPattern("yyyy"));
+        assertNotSame(second, DateFormatters.ofPattern("yyyy-MM"));
+        DateTimeFormatter last = DateFormatters.ofPattern("'last'yyyy");
+        assertSame(last, DateFormatters.ofPattern("'last'yyyy"));
+    }
+
+    @Test
+    void simpleDateFormatTest() {
+        DateFormatters.clear();
+        assertSame(DateFormatters.simpleDateFormat("dd/MM/yyyy"), DateFormatters.simpleDateFormat("dd/MM/yyyy"));
+        assertEquals(1, DateFormatters.hits());
+    }
+
+    @Test
+    void timeZoneRestoredAfterParseTest() {
+        Date date = Dates.of(2019, 12, 18, 19, 25, 11);
+        String expected = Dates.format(date, "yyyy-MM-dd HH:mm:ss z");
+        Dates.parseDate("2019-12-18 19:25:11 GMT+09:00", "yyyy-MM-dd HH:mm:ss z");
+        assertEquals(expected, Dates.format(date, "yyyy-MM-dd HH:mm:ss z"));
+    }
+
+    @Test
+    void concurrentFormatTest() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int day = t + 1;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        Date date = Dates.of(2019, 12, day);
+                        if (!Dates.parseDate(Dates.format(date, "dd/MM/yyyy"), "dd/MM/yyyy").equals(date))
+                            return false;
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
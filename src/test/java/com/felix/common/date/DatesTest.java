@@ -2,12 +2,17 @@ package com.felix.common.date;
 
 import org.junit.jupiter.api.Test;
 
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
 
 import static com.felix.common.date.Dates.*;
 import static org.hamcrest.CoreMatchers.hasItems;
@@ -109,6 +114,35 @@ public class DatesTest {
         assertThrows(NullPointerException.class, () -> parseDate("2019-12-18 19:25:11", null), "Format is null.");
     }
 
+    @Test
+    void parseDateWithIsoFormatTest() {
+        assertEquals(of(2019, 12, 18), parseDate("2019-12-18", "yyyy-MM-dd"));
+        assertEquals(of(2020, 1, 1), parseDate("2019-12-32", "yyyy-MM-dd"));
+        assertEquals(of(2019, 12, 18, 19, 25, 11), parseDate("2019-12-18 19:25:11 extra", "yyyy-MM-dd HH:mm:ss"));
+        assertThrows(IllegalArgumentException.class, () -> parseDate("2019/12/18", "yyyy-MM-dd"), "Invalid format.");
+    }
+
+    @Test
+    void parseDateWithIsoFormatBeforeStandardTimeTest() {
+        TimeZone original = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Sao_Paulo"));
+            ZoneConversions.refreshDefaultZone();
+            SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+            for (String date : new String[]{"1850-06-15 12:00:00", "1914-01-01 00:10:00", "2040-02-10 23:30:00"}) {
+                Date parsed = parseDate(date, "yyyy-MM-dd HH:mm:ss");
+                assertEquals(simpleDateFormat.parse(date), parsed);
+                assertEquals(date, format(parsed, "yyyy-MM-dd HH:mm:ss"));
+            }
+            assertEquals(-3772515600000L, parseDate("1850-06-15 12:00:00", "yyyy-MM-dd HH:mm:ss").getTime());
+        } catch (ParseException e) {
+            throw new AssertionError(e);
+        } finally {
+            TimeZone.setDefault(original);
+            ZoneConversions.refreshDefaultZone();
+        }
+    }
+
     @Test
     void getIntervalWithLocalDateDayTest() {
         List<LocalDate> dates = getInterval(specificLocalDate, specificLocalDate.plusDays(10), ChronoUnit.DAYS);
@@ -170,4 +204,52 @@ public class DatesTest {
         assertThrows(IllegalArgumentException.class, () ->
                 getInterval(specificLocalDateTime, specificLocalDateTime.minusDays(1), ChronoUnit.HOURS), "Start date is after end date.");
     }
+
+    @Test
+    void getIntervalWithWeeksAndMillisTest() {
+        List<LocalDate> weeks = getInterval(specificLocalDate, specificLocalDate.plusWeeks(3), ChronoUnit.WEEKS);
+        assertEquals(4, weeks.size());
+        assertEquals(specificLocalDate.plusWeeks(3), weeks.get(3));
+
+        List<LocalDateTime> millis = getInterval(specificLocalDateTime, specificLocalDateTime.plusNanos(2_000_000), ChronoUnit.MILLIS);
+        assertEquals(3, millis.size());
+        assertEquals(specificLocalDateTime.plusNanos(1_000_000), millis.get(1));
+    }
+
+    @Test
+    void getIntervalViewTest() {
+        List<LocalDateTime> view = getIntervalView(specificLocalDateTime, specificLocalDateTime.plusYears(1), ChronoUnit.SECONDS);
+        assertEquals(366 * 24 * 60 * 60 + 1, view.size());
+        assertEquals(specificLocalDateTime.plusSeconds(1_000_000), view.get(1_000_000));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(view.size()));
+
+        List<LocalDate> months = getIntervalView(LocalDate.of(2019, 1, 31), LocalDate.of(2019, 12, 31), ChronoUnit.MONTHS);
+        assertEquals(LocalDate.of(2019, 2, 28), months.get(1));
+    }
+
+    @Test
+    void getIntervalStreamTest() {
+        assertEquals(getInterval(LocalDate.of(2018, 1, 1), LocalDate.of(2019, 12, 1), ChronoUnit.MONTHS),
+                getIntervalStream(LocalDate.of(2018, 1, 1), LocalDate.of(2019, 12, 1), ChronoUnit.MONTHS).collect(Collectors.toList()));
+        assertEquals(25, getIntervalStream(specificLocalDateTime, specificLocalDateTime.plusHours(24), ChronoUnit.HOURS).count());
+    }
+
+    @Test
+    void getIntervalEpochDaysTest() {
+        long[] days = getIntervalEpochDays(specificLocalDate, specificLocalDate.plusDays(10), ChronoUnit.DAYS).toArray();
+        assertEquals(11, days.length);
+        assertEquals(specificLocalDate.plusDays(10).toEpochDay(), days[10]);
+
+        long[] months = getIntervalEpochDays(LocalDate.of(2019, 1, 1), LocalDate.of(2019, 12, 1), ChronoUnit.MONTHS).toArray();
+        assertEquals(LocalDate.of(2019, 3, 1).toEpochDay(), months[2]);
+    }
+
+    @Test
+    void getIntervalEpochSecondsTest() {
+        long[] hours = getIntervalEpochSeconds(specificLocalDateTime, specificLocalDateTime.plusHours(24), ChronoUnit.HOURS).toArray();
+        assertEquals(25, hours.length);
+        assertEquals(specificLocalDateTime.plusHours(3).toEpochSecond(ZoneOffset.UTC), hours[3]);
+        assertThrows(IllegalArgumentException.class, () ->
+                getIntervalEpochSeconds(specificLocalDateTime, specificLocalDateTime.plusHours(24), ChronoUnit.MILLIS));
+    }
 }
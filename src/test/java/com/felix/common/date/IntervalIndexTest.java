@@ -0,0 +1,79 @@
+package com.felix.common.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntervalIndexTest {
+
+    @Test
+    void sameAsLinearScanTest() {
+        Random random = new Random(18);
+        LocalDate base = LocalDate.of(2020, 1, 1);
+        List<LocalDate[]> periods = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate start = base.plusDays(random.nextInt(1000));
+            LocalDate end = random.nextInt(10) == 0 ? null : start.plusDays(random.nextInt(60));
+            periods.add(new LocalDate[]{start, end});
+        }
+        IntervalIndex<LocalDate[], LocalDate> index = IntervalIndex.of(periods, p -> p[0], p -> p[1]);
+        assertEquals(periods.size(), index.size());
+
+        for (int i = 0; i < 300; i++) {
+            LocalDate from = base.plusDays(random.nextInt(1100) - 50);
+            LocalDate to = from.plusDays(random.nextInt(20));
+            assertEquals(scan(periods, from, from), sorted(index.stab(from)));
+            assertEquals(scan(periods, from, to), sorted(index.overlapping(from, to)));
+        }
+    }
+
+    @Test
+    void boundariesTest() {
+        List<LocalDate[]> periods = new ArrayList<>();
+        periods.add(new LocalDate[]{LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 31)});
+        periods.add(new LocalDate[]{LocalDate.of(2020, 2, 1), null});
+        IntervalIndex<LocalDate[], LocalDate> index = IntervalIndex.of(periods, p -> p[0], p -> p[1]);
+
+        assertEquals(1, index.stab(LocalDate.of(2020, 1, 31)).size());
+        assertSame(periods.get(1), index.stab(LocalDate.of(2020, 2, 1)).get(0));
+        assertSame(periods.get(1), index.stab(LocalDate.of(2999, 1, 1)).get(0));
+        assertTrue(index.stab(LocalDate.of(2019, 12, 31)).isEmpty());
+        assertEquals(periods, index.overlapping(LocalDate.of(2019, 1, 1), LocalDate.of(2021, 1, 1)));
+
+        IntervalIndex<LocalDate[], LocalDate> empty = IntervalIndex.of(Collections.emptyList(), p -> p[0], p -> p[1]);
+        assertTrue(empty.stab(LocalDate.of(2020, 1, 1)).isEmpty());
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        List<LocalDate[]> periods = new ArrayList<>();
+        periods.add(new LocalDate[]{LocalDate.of(2020, 1, 2), LocalDate.of(2020, 1, 1)});
+        assertThrows(IllegalArgumentException.class, () -> IntervalIndex.of(periods, p -> p[0], p -> p[1]));
+        periods.set(0, new LocalDate[]{null, null});
+        assertThrows(NullPointerException.class, () -> IntervalIndex.of(periods, p -> p[0], p -> p[1]));
+
+        IntervalIndex<LocalDate[], LocalDate> index = IntervalIndex.of(Collections.emptyList(), p -> p[0], p -> p[1]);
+        assertThrows(IllegalArgumentException.class,
+                () -> index.overlapping(LocalDate.of(2020, 1, 2), LocalDate.of(2020, 1, 1)));
+    }
+
+    private static List<String> scan(List<LocalDate[]> periods, LocalDate from, LocalDate to) {
+        return sorted(periods.stream()
+                .filter(p -> !p[0].isAfter(to) && (p[1] == null || !p[1].isBefore(from)))
+                .collect(Collectors.toList()));
+    }
+
+    private static List<String> sorted(List<LocalDate[]> periods) {
+        return periods.stream()
+                .map(p -> System.identityHashCode(p) + ":" + p[0] + ":" + p[1])
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
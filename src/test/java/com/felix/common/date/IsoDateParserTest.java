@@ -0,0 +1,54 @@
+package com.felix.common.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static com.felix.common.date.IsoDateParser.INVALID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IsoDateParserTest {
+
+    @Test
+    void parseEpochDayTest() {
+        assertEquals(LocalDate.of(2019, 12, 18).toEpochDay(), IsoDateParser.parseEpochDay("2019-12-18"));
+        assertEquals(LocalDate.of(1960, 2, 29).toEpochDay(), IsoDateParser.parseEpochDay("1960-02-29"));
+        assertEquals(LocalDate.of(2019, 12, 18).toEpochDay(), IsoDateParser.parseEpochDay("id;2019-12-18;", 3));
+        assertEquals(INVALID, IsoDateParser.parseEpochDay("2019-02-29"));
+        assertEquals(INVALID, IsoDateParser.parseEpochDay("2019-13-01"));
+        assertEquals(INVALID, IsoDateParser.parseEpochDay("2019/12/18"));
+        assertEquals(INVALID, IsoDateParser.parseEpochDay("2019-12-1"));
+        assertEquals(INVALID, IsoDateParser.parseEpochDay("2019-12-18", 1));
+    }
+
+    @Test
+    void parseEpochDayWithBytesTest() {
+        byte[] bytes = "1;2019-12-18\n".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(LocalDate.of(2019, 12, 18).toEpochDay(), IsoDateParser.parseEpochDay(bytes, 2));
+        assertEquals(INVALID, IsoDateParser.parseEpochDay(bytes, 0));
+        assertEquals(INVALID, IsoDateParser.parseEpochDay(bytes, 5));
+    }
+
+    @Test
+    void parseLocalEpochSecondTest() {
+        long expected = LocalDateTime.of(2019, 12, 18, 19, 25, 11).toEpochSecond(ZoneOffset.UTC);
+        assertEquals(expected, IsoDateParser.parseLocalEpochSecond("2019-12-18 19:25:11"));
+        assertEquals(expected, IsoDateParser.parseLocalEpochSecond("2019-12-18 19:25:11".getBytes(StandardCharsets.US_ASCII), 0));
+        assertEquals(INVALID, IsoDateParser.parseLocalEpochSecond("2019-12-18 24:00:00"));
+        assertEquals(INVALID, IsoDateParser.parseLocalEpochSecond("2019-12-18T19:25:11"));
+        assertEquals(INVALID, IsoDateParser.parseLocalEpochSecond("2019-12-18 19:25"));
+    }
+
+    @Test
+    void parseEpochMillisTest() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        assertEquals(LocalDateTime.of(2019, 12, 18, 19, 25, 11).atZone(zone).toInstant().toEpochMilli(),
+                IsoDateParser.parseEpochMillis("2019-12-18 19:25:11", zone));
+        assertEquals(LocalDateTime.of(2019, 11, 3, 6, 30).toInstant(ZoneOffset.UTC).toEpochMilli(),
+                IsoDateParser.parseEpochMillis("2019-11-03 01:30:00", zone));
+    }
+}
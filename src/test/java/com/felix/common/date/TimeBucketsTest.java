@@ -0,0 +1,105 @@
+package com.felix.common.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeBucketsTest {
+
+    private final ZoneId saoPaulo = ZoneId.of("America/Sao_Paulo");
+
+    @Test
+    void indexOfTest() {
+        // Fine units use a short range around the 2018 daylight saving start, to keep the intervals small.
+        assertIndexOf(LocalDateTime.of(2018, 11, 3, 10, 30), LocalDateTime.of(2018, 11, 5, 0, 0), ChronoUnit.MINUTES);
+        assertIndexOf(LocalDateTime.of(2018, 10, 31, 10, 30), LocalDateTime.of(2019, 3, 1, 0, 0), ChronoUnit.HOURS);
+        LocalDateTime start = LocalDateTime.of(2015, 1, 31, 10, 30);
+        LocalDateTime end = LocalDateTime.of(2022, 6, 1, 0, 0);
+        for (ChronoUnit chrono : new ChronoUnit[]{ChronoUnit.DAYS, ChronoUnit.WEEKS, ChronoUnit.MONTHS, ChronoUnit.YEARS}) {
+            assertIndexOf(start, end, chrono);
+        }
+    }
+
+    @Test
+    void countTest() {
+        TimeBuckets buckets = TimeBuckets.of(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31), ChronoUnit.MONTHS, saoPaulo);
+        assertEquals(12, buckets.size());
+        assertEquals(LocalDateTime.of(2020, 3, 1, 0, 0), buckets.startOf(2));
+
+        Random random = new Random(17);
+        long from = LocalDate.of(2019, 12, 1).atStartOfDay(saoPaulo).toInstant().toEpochMilli();
+        long to = LocalDate.of(2021, 2, 1).atStartOfDay(saoPaulo).toInstant().toEpochMilli();
+        long[] epochMillis = new long[50_000];
+        long[] expected = new long[12];
+        List<long[]> records = new ArrayList<>();
+        long[] expectedSums = new long[12];
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = from + (long) (random.nextDouble() * (to - from));
+            LocalDate date = ZoneConversions.toLocalDate(epochMillis[i], saoPaulo);
+            records.add(new long[]{epochMillis[i], i});
+            if (date.getYear() == 2020) {
+                expected[date.getMonthValue() - 1]++;
+                expectedSums[date.getMonthValue() - 1] += i;
+            }
+        }
+
+        assertArrayEquals(expected, buckets.count(epochMillis));
+        assertArrayEquals(expected, buckets.count(records, r -> r[0]));
+        assertArrayEquals(expected, records.parallelStream().collect(buckets.counting(r -> r[0])));
+        assertArrayEquals(expectedSums, buckets.sumLong(records, r -> r[0], r -> r[1]));
+        assertArrayEquals(expectedSums, records.parallelStream().collect(buckets.summingLong(r -> r[0], r -> r[1])));
+
+        double[] doubleSums = buckets.sumDouble(records, r -> r[0], r -> r[1]);
+        for (int i = 0; i < expectedSums.length; i++) {
+            assertEquals(expectedSums[i], doubleSums[i], 0.0001);
+        }
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        assertThrows(IllegalArgumentException.class, () -> TimeBuckets.of(start, start.minusDays(1), ChronoUnit.DAYS));
+        assertThrows(IllegalArgumentException.class, () -> TimeBuckets.of(start, start, ChronoUnit.NANOS));
+        assertThrows(IllegalArgumentException.class, () -> TimeBuckets.of(start, start, ChronoUnit.FOREVER));
+        assertThrows(IllegalArgumentException.class,
+                () -> TimeBuckets.of(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 2), ChronoUnit.HOURS, saoPaulo));
+        assertThrows(NullPointerException.class, () -> TimeBuckets.of(null, start, ChronoUnit.DAYS));
+        assertThrows(IndexOutOfBoundsException.class, () -> TimeBuckets.of(start, start, ChronoUnit.DAYS).startOf(1));
+    }
+
+    private void assertIndexOf(LocalDateTime start, LocalDateTime end, ChronoUnit chrono) {
+        TimeBuckets buckets = TimeBuckets.of(start, end, chrono, saoPaulo);
+        List<LocalDateTime> interval = Dates.getInterval(start, end, chrono);
+        assertEquals(interval.size(), buckets.size());
+        assertEquals(interval, buckets.starts());
+
+        Random random = new Random(16);
+        long startMillis = start.atZone(saoPaulo).toInstant().toEpochMilli();
+        long endMillis = interval.get(interval.size() - 1).plus(1, chrono).atZone(saoPaulo).toInstant().toEpochMilli();
+        long margin = (endMillis - startMillis) / 10;
+        long from = startMillis - margin;
+        long to = endMillis + margin;
+        for (int i = 0; i < 5_000; i++) {
+            long epochMillis = from + (long) (random.nextDouble() * (to - from));
+            assertEquals(expectedIndex(interval, chrono, epochMillis), buckets.indexOf(epochMillis), chrono.toString());
+        }
+    }
+
+    private int expectedIndex(List<LocalDateTime> interval, ChronoUnit chrono, long epochMillis) {
+        LocalDateTime local = ZoneConversions.toLocalDateTime(epochMillis, saoPaulo);
+        LocalDateTime last = interval.get(interval.size() - 1).plus(1, chrono);
+        if (local.isBefore(interval.get(0)) || !local.isBefore(last))
+            return -1;
+        int index = Collections.binarySearch(interval, local);
+        return index >= 0 ? index : -index - 2;
+    }
+}
@@ -0,0 +1,120 @@
+package com.felix.common.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ZoneConversionsTest {
+
+    private static final ZoneId[] ZONES = {
+            ZoneId.of("America/Sao_Paulo"), ZoneId.of("Europe/Berlin"), ZoneId.of("America/New_York"),
+            ZoneId.of("Australia/Lord_Howe"), ZoneId.of("UTC")
+    };
+
+    @Test
+    void toLocalDateTimeTest() {
+        Random random = new Random(15);
+        for (ZoneId zone : ZONES) {
+            for (int i = 0; i < 20_000; i++) {
+                long epochMillis = randomEpochMillis(random);
+                LocalDateTime expected = Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDateTime();
+                assertEquals(expected, ZoneConversions.toLocalDateTime(epochMillis, zone));
+                assertEquals(expected.toLocalDate(), ZoneConversions.toLocalDate(epochMillis, zone));
+                assertEquals(zone.getRules().getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds(),
+                        ZoneConversions.offsetSeconds(epochMillis, zone));
+            }
+        }
+    }
+
+    @Test
+    void toEpochMillisTest() {
+        Random random = new Random(16);
+        for (ZoneId zone : ZONES) {
+            for (int i = 0; i < 20_000; i++) {
+                LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(randomEpochMillis(random) / 1000,
+                        random.nextInt(1000) * 1_000_000, ZoneOffset.UTC);
+                assertEquals(localDateTime.atZone(zone).toInstant().toEpochMilli(),
+                        ZoneConversions.toEpochMillis(localDateTime, zone));
+                LocalDate localDate = localDateTime.toLocalDate();
+                assertEquals(localDate.atStartOfDay(zone).toInstant().toEpochMilli(),
+                        ZoneConversions.toEpochMillis(localDate, zone));
+            }
+        }
+    }
+
+    @Test
+    void toEpochMillisAtTransitionsTest() {
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        LocalDateTime gap = LocalDateTime.of(2021, 3, 28, 2, 30);
+        LocalDateTime overlap = LocalDateTime.of(2021, 10, 31, 2, 30);
+
+        assertEquals(gap.atZone(berlin).toInstant().toEpochMilli(), ZoneConversions.toEpochMillis(gap, berlin));
+        assertEquals(overlap.atZone(berlin).toInstant().toEpochMilli(), ZoneConversions.toEpochMillis(overlap, berlin));
+        assertEquals(overlap.atZone(berlin).withLaterOffsetAtOverlap().toInstant().toEpochMilli(),
+                IsoDateParser.toEpochMillis(overlap.toEpochSecond(ZoneOffset.UTC), berlin));
+
+        ZoneId saoPaulo = ZoneId.of("America/Sao_Paulo");
+        LocalDate midnightGap = LocalDate.of(2018, 11, 4);
+        assertEquals(midnightGap.atStartOfDay(saoPaulo).toInstant().toEpochMilli(),
+                ZoneConversions.toEpochMillis(midnightGap, saoPaulo));
+    }
+
+    @Test
+    void bulkConversionsTest() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        long[] epochMillis = new long[1000];
+        Random random = new Random(17);
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = randomEpochMillis(random);
+        }
+
+        LocalDateTime[] localDateTimes = ZoneConversions.toLocalDateTimes(epochMillis, zone);
+        LocalDate[] localDates = ZoneConversions.toLocalDates(epochMillis, zone);
+        for (int i = 0; i < epochMillis.length; i++) {
+            assertEquals(ZoneConversions.toLocalDateTime(epochMillis[i], zone), localDateTimes[i]);
+            assertEquals(localDateTimes[i].toLocalDate(), localDates[i]);
+        }
+
+        long[] expected = new long[localDateTimes.length];
+        for (int i = 0; i < localDateTimes.length; i++) {
+            expected[i] = localDateTimes[i].atZone(zone).toInstant().toEpochMilli();
+        }
+        assertArrayEquals(expected, ZoneConversions.toEpochMillis(localDateTimes, zone));
+
+        assertThrows(NullPointerException.class, () -> ZoneConversions.toLocalDates(null, zone));
+        assertThrows(NullPointerException.class, () -> ZoneConversions.toLocalDates(epochMillis, null));
+        assertThrows(NullPointerException.class, () -> ZoneConversions.toEpochMillis(new LocalDateTime[]{null}, zone));
+    }
+
+    @Test
+    void refreshDefaultZoneTest() {
+        TimeZone original = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            assertEquals(ZoneId.of("Asia/Tokyo"), ZoneConversions.refreshDefaultZone());
+            assertEquals(ZoneId.of("Asia/Tokyo"), ZoneConversions.defaultZone());
+            assertEquals(LocalDateTime.of(1970, 1, 1, 9, 0), Dates.toLocalDateTime(new Date(0)));
+        } finally {
+            TimeZone.setDefault(original);
+            ZoneConversions.refreshDefaultZone();
+        }
+        assertEquals(ZoneId.systemDefault(), ZoneConversions.defaultZone());
+    }
+
+    private static long randomEpochMillis(Random random) {
+        long from = LocalDate.of(1900, 1, 1).toEpochDay() * 86_400_000L;
+        long to = LocalDate.of(2100, 1, 1).toEpochDay() * 86_400_000L;
+        return from + (long) (random.nextDouble() * (to - from));
+    }
+}
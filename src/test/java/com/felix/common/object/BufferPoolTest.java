@@ -0,0 +1,60 @@
+package com.felix.common.object;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BufferPoolTest {
+
+    @Test
+    void reuseTest() {
+        BufferPool pool = BufferPool.of(16, 64, false);
+        ByteBuffer buffer = pool.acquire(0);
+        assertEquals(16, buffer.capacity());
+        assertFalse(buffer.isDirect());
+
+        ByteBuffer other = pool.acquire(0);
+        assertNotSame(buffer, other);
+
+        buffer.put((byte) 1);
+        pool.release(buffer);
+        ByteBuffer reused = pool.acquire(8);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+
+        pool.release(reused);
+        assertNotSame(buffer, pool.acquire(32));
+    }
+
+    @Test
+    void capsTest() {
+        BufferPool pool = BufferPool.of(16, 64, true);
+        ByteBuffer large = pool.acquire(128);
+        assertTrue(large.isDirect());
+        pool.release(large);
+        assertNotSame(large, pool.acquire(128));
+
+        ByteBuffer heap = ByteBuffer.allocate(32);
+        pool.release(heap);
+        assertNotSame(heap, pool.acquire(0));
+
+        assertThrows(IllegalArgumentException.class, () -> BufferPool.of(0, 10, false));
+        assertThrows(IllegalArgumentException.class, () -> BufferPool.of(10, 5, false));
+    }
+
+    @Test
+    void perThreadTest() throws InterruptedException {
+        BufferPool pool = BufferPool.of(16, 64, false);
+        ByteBuffer buffer = pool.acquire(0);
+        pool.release(buffer);
+
+        ByteBuffer[] fromOtherThread = new ByteBuffer[1];
+        Thread thread = new Thread(() -> fromOtherThread[0] = pool.acquire(0));
+        thread.start();
+        thread.join();
+        assertNotSame(buffer, fromOtherThread[0]);
+        assertSame(buffer, pool.acquire(0));
+    }
+}
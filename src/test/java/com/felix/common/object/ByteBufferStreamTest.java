@@ -0,0 +1,80 @@
+package com.felix.common.object;
+
+import com.felix.common.Person;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ByteBufferStreamTest {
+
+    private final CompactCodec codec = CompactCodec.of(Person.class);
+
+    @Test
+    void outputStreamTest() {
+        ByteBufferOutputStream fixed = ByteBufferOutputStream.fixed(ByteBuffer.allocate(4));
+        fixed.write(new byte[]{1, 2, 3}, 0, 3);
+        fixed.write(4);
+        assertThrows(BufferOverflowException.class, () -> fixed.write(5));
+
+        ByteBufferOutputStream growable = ByteBufferOutputStream.growable(ByteBuffer.allocateDirect(2));
+        for (int i = 0; i < 100; i++) {
+            growable.write(i);
+        }
+        ByteBuffer buffer = growable.buffer();
+        assertTrue(buffer.isDirect());
+        assertEquals(100, buffer.position());
+        assertEquals(99, buffer.get(99));
+    }
+
+    @Test
+    void inputStreamTest() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, (byte) 200, 4});
+        ByteBufferInputStream in = new ByteBufferInputStream(buffer);
+        assertEquals(4, in.available());
+        assertEquals(1, in.read());
+        byte[] bytes = new byte[5];
+        assertEquals(3, in.read(bytes, 0, 5));
+        assertEquals(-56, bytes[1]);
+        assertEquals(-1, in.read());
+        assertEquals(-1, in.read(bytes, 0, 1));
+        assertEquals(4, buffer.position());
+    }
+
+    @Test
+    void serializeToBufferTest() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        Objects.serialize(new Person(1, "Felix"), codec, buffer);
+        Objects.serialize(new Person(2, "Ana"), JavaSerializationCodec.INSTANCE, buffer);
+        buffer.flip();
+
+        Person felix = Objects.deserialize(buffer, codec);
+        Person ana = Objects.deserialize(buffer, JavaSerializationCodec.INSTANCE);
+        assertEquals("Felix", felix.getName());
+        assertEquals("Ana", ana.getName());
+        assertFalse(buffer.hasRemaining());
+
+        assertThrows(BufferOverflowException.class,
+                () -> Objects.serialize(new Person(1, "Felix"), codec, ByteBuffer.allocate(2)));
+    }
+
+    @Test
+    void serializeToChannelTest() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Person person = new Person(1, "Felix");
+        int size = Objects.serialize(person, codec, Channels.newChannel(out));
+        assertEquals(size, out.size());
+        assertArrayEquals(Objects.serialize(person, codec), out.toByteArray());
+
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            name.append('x');
+        }
+        Person large = new Person(2, name.toString());
+        assertEquals(name.toString(), Objects.<Person>deserialize(Objects.serialize(large, codec), codec).getName());
+    }
+}
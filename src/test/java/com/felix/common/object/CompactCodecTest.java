@@ -0,0 +1,168 @@
+package com.felix.common.object;
+
+import com.felix.common.Person;
+import com.felix.common.Phone;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactCodecTest {
+
+    private final CompactCodec codec = CompactCodec.of(Item.class, Phone.class);
+
+    @Test
+    void roundTripTest() {
+        Item item = newItem();
+        Item copy = Objects.deserialize(Objects.serialize(item, codec), codec);
+
+        assertEquals(item.id, copy.id);
+        assertEquals(item.price, copy.price);
+        assertEquals(item.weight, copy.weight);
+        assertEquals(item.active, copy.active);
+        assertEquals(item.code, copy.code);
+        assertEquals(item.name, copy.name);
+        assertEquals(item.amount, copy.amount);
+        assertEquals(item.date, copy.date);
+        assertEquals(item.created, copy.created);
+        assertEquals(item.instant, copy.instant);
+        assertEquals(item.uuid, copy.uuid);
+        assertEquals(item.unit, copy.unit);
+        assertEquals(item.tags, copy.tags);
+        assertEquals(item.attributes, copy.attributes);
+        assertEquals(item.sorted, copy.sorted);
+        assertArrayEquals(item.values, copy.values);
+        assertArrayEquals(item.flags, copy.flags);
+        assertArrayEquals(item.names, copy.names);
+        assertEquals("46", copy.phone.getDd());
+        assertNull(copy.cache);
+        assertEquals(-7, copy.small);
+        assertEquals('x', copy.letter);
+    }
+
+    @Test
+    void referencesTest() {
+        Item item = newItem();
+        item.parent = item;
+        item.tags.add(item.names);
+
+        Item copy = Objects.deserialize(Objects.serialize(item, codec), codec);
+        assertSame(copy, copy.parent);
+        assertSame(copy.names, copy.tags.get(copy.tags.size() - 1));
+    }
+
+    @Test
+    void unregisteredClassesTest() {
+        CompactCodec empty = CompactCodec.of();
+        List<Object> list = new ArrayList<>(Arrays.asList(new Person(1, "Felix"), new Person(2, "Ana"), Level.HIGH));
+        List<Object> copy = Objects.deserialize(Objects.serialize(list, empty), empty);
+        assertEquals("Ana", ((Person) copy.get(1)).getName());
+        assertSame(Level.HIGH, copy.get(2));
+        assertNull(Objects.deserialize(Objects.serialize(null, empty), empty));
+    }
+
+    @Test
+    void smallerThanJavaSerializationTest() {
+        Item item = newItem();
+        int compact = Objects.serialize(item, codec).length;
+        int java = Objects.serialize(item, JavaSerializationCodec.INSTANCE).length;
+        assertTrue(compact * 3 < java, compact + " vs " + java);
+    }
+
+    @Test
+    void unsupportedTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Objects.serialize(Collections.unmodifiableList(new ArrayList<>()), codec));
+        assertThrows(IllegalArgumentException.class, () -> CompactCodec.of(Item.class, Item.class));
+        assertThrows(RuntimeException.class, () -> Objects.deserialize(new byte[]{39}, codec));
+        assertThrows(RuntimeException.class, () -> Objects.deserialize(new byte[]{12, 5, 'a'}, codec));
+    }
+
+    @Test
+    void defaultCodecTest() {
+        assertSame(JavaSerializationCodec.INSTANCE, Objects.getDefaultCodec());
+        try {
+            Objects.setDefaultCodec(codec);
+            Person person = Objects.deserialize(Objects.serialize(new Person(1, "Felix")));
+            assertEquals("Felix", person.getName());
+        } finally {
+            Objects.setDefaultCodec(JavaSerializationCodec.INSTANCE);
+        }
+        assertThrows(NullPointerException.class, () -> Objects.setDefaultCodec(null));
+    }
+
+    private static Item newItem() {
+        Item item = new Item();
+        item.id = 123456789L;
+        item.price = 10.25;
+        item.weight = 1.5f;
+        item.active = true;
+        item.code = 42;
+        item.small = -7;
+        item.letter = 'x';
+        item.name = "Felix";
+        item.amount = new BigDecimal("1234.5678");
+        item.date = LocalDate.of(2020, 2, 29);
+        item.created = LocalDateTime.of(2020, 2, 29, 10, 30, 15, 123);
+        item.instant = Instant.ofEpochSecond(1_600_000_000L, 5);
+        item.uuid = new UUID(1, 2);
+        item.unit = ChronoUnit.DAYS;
+        item.tags = new ArrayList<>(Arrays.asList("a", 1, 2L, null, new Date(1000)));
+        item.attributes = new LinkedHashMap<>();
+        item.attributes.put("x", 1);
+        item.attributes.put("y", Level.LOW);
+        item.sorted = new TreeSet<>(Arrays.asList(3, 1, 2));
+        item.values = new int[]{1, -1, 1 << 30};
+        item.flags = new boolean[]{true, false};
+        item.names = new String[]{"a", null, "c"};
+        item.phone = new Phone("46", "991142429");
+        item.cache = "transient";
+        return item;
+    }
+
+    enum Level {
+        LOW, HIGH
+    }
+
+    static class Item implements Serializable {
+
+        long id;
+        double price;
+        float weight;
+        boolean active;
+        int code;
+        short small;
+        char letter;
+        String name;
+        BigDecimal amount;
+        LocalDate date;
+        LocalDateTime created;
+        Instant instant;
+        UUID uuid;
+        ChronoUnit unit;
+        List<Object> tags;
+        Map<String, Object> attributes;
+        TreeSet<Integer> sorted;
+        int[] values;
+        boolean[] flags;
+        String[] names;
+        Phone phone;
+        Item parent;
+        transient String cache;
+    }
+}
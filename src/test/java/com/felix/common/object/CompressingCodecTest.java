@@ -0,0 +1,94 @@
+package com.felix.common.object;
+
+import com.felix.common.Person;
+import com.felix.common.Phone;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressingCodecTest {
+
+    private final CompactCodec compact = CompactCodec.of(Person.class, Phone.class);
+
+    @Test
+    void roundTripTest() {
+        CompressingCodec codec = CompressingCodec.of(JavaSerializationCodec.INSTANCE, Deflater.BEST_COMPRESSION);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            persons.add(new Person(i, "Person with a long repeated name " + i, new Phone("46", "99114242" + i)));
+        }
+
+        byte[] bytes = Objects.serialize(persons, codec);
+        List<Person> copy = Objects.deserialize(bytes, codec);
+        assertEquals(100, copy.size());
+        assertEquals("Person with a long repeated name 99", copy.get(99).getName());
+        assertTrue(bytes.length < Objects.serialize(persons, JavaSerializationCodec.INSTANCE).length / 3);
+
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        Objects.serialize(new Person(1, "Felix"), codec, buffer);
+        Objects.serialize(new Person(2, "Ana"), codec, buffer);
+        buffer.flip();
+        assertEquals("Felix", Objects.<Person>deserialize(buffer, codec).getName());
+        assertEquals("Ana", Objects.<Person>deserialize(buffer, codec).getName());
+        assertNull(Objects.deserialize(Objects.serialize(null, codec), codec));
+    }
+
+    @Test
+    void dictionaryTest() {
+        List<Person> samples = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            samples.add(new Person(i, "Customer account name " + i, new Phone("46", "3220-00" + i)));
+        }
+        byte[] dictionary = CompressingCodec.trainDictionary(compact, samples, 1024);
+        assertTrue(dictionary.length <= 1024);
+
+        CompressingCodec plain = CompressingCodec.of(compact, Deflater.DEFAULT_COMPRESSION);
+        CompressingCodec trained = CompressingCodec.of(compact, Deflater.DEFAULT_COMPRESSION, dictionary);
+        assertTrue(trained.hasDictionary());
+        assertFalse(plain.hasDictionary());
+
+        Person person = new Person(77, "Customer account name 77", new Phone("46", "3220-0077"));
+        byte[] withDictionary = Objects.serialize(person, trained);
+        byte[] withoutDictionary = Objects.serialize(person, plain);
+        assertTrue(withDictionary.length < withoutDictionary.length,
+                withDictionary.length + " vs " + withoutDictionary.length);
+        assertEquals("Customer account name 77", Objects.<Person>deserialize(withDictionary, trained).getName());
+
+        assertThrows(RuntimeException.class, () -> Objects.deserialize(withDictionary, plain));
+        CompressingCodec otherDictionary = CompressingCodec.of(compact, Deflater.DEFAULT_COMPRESSION, new byte[]{1, 2, 3});
+        assertThrows(RuntimeException.class, () -> Objects.deserialize(withDictionary, otherDictionary));
+    }
+
+    @Test
+    void statsTest() {
+        CompressingCodec codec = CompressingCodec.of(compact, Deflater.BEST_SPEED);
+        Objects.serialize(new Person(1, "Felix"), codec);
+        Objects.serialize(new Person(2, "Ana"), codec);
+        Objects.serialize("a string", codec);
+
+        CompressingCodec.Stats stats = codec.getStats(Person.class);
+        assertEquals(2, stats.getCount());
+        assertTrue(stats.getUncompressedBytes() > 0);
+        assertTrue(stats.getCompressedBytes() > 0);
+        assertTrue(stats.getRatio() > 1);
+        assertEquals(2, codec.getStats().size());
+        assertEquals(0, codec.getStats(Phone.class).getCount());
+
+        codec.resetStats();
+        assertTrue(codec.getStats().isEmpty());
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> CompressingCodec.of(compact, 10));
+        assertThrows(IllegalArgumentException.class, () -> CompressingCodec.trainDictionary(compact, new ArrayList<>(), 0));
+        assertThrows(NullPointerException.class, () -> CompressingCodec.of(null, 1));
+        assertThrows(RuntimeException.class, () -> Objects.deserialize(new byte[]{0, 0, 0, 5, 0, 0, 0, 2, 1, 2},
+                CompressingCodec.of(compact, 1)));
+    }
+}
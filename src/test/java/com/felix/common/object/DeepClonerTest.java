@@ -0,0 +1,130 @@
+package com.felix.common.object;
+
+import com.felix.common.Person;
+import com.felix.common.Phone;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeepClonerTest {
+
+    @Test
+    void cloneFieldsTest() {
+        Node node = new Node("root", 3, new int[]{1, 2, 3});
+        node.amount = new BigDecimal("10.5");
+        node.date = LocalDate.of(2020, 1, 1);
+        node.created = new Date(1000);
+        node.cache = "transient";
+
+        Node copy = DeepCloner.clone(node);
+        assertNotSame(node, copy);
+        assertEquals("root", copy.name);
+        assertEquals(3, copy.weight);
+        assertArrayEquals(node.values, copy.values);
+        assertNotSame(node.values, copy.values);
+        assertSame(node.amount, copy.amount);
+        assertSame(node.date, copy.date);
+        assertEquals(node.created, copy.created);
+        assertNotSame(node.created, copy.created);
+        assertNull(copy.cache);
+    }
+
+    @Test
+    void sharedReferencesAndCyclesTest() {
+        Node root = new Node("root", 1, null);
+        Node child = new Node("child", 2, null);
+        root.children.add(child);
+        root.children.add(child);
+        child.parent = root;
+        root.attributes.put("self", root);
+
+        Node copy = DeepCloner.clone(root);
+        assertNotSame(root, copy);
+        assertSame(copy.children.get(0), copy.children.get(1));
+        assertNotSame(child, copy.children.get(0));
+        assertSame(copy, copy.children.get(0).parent);
+        assertSame(copy, copy.attributes.get("self"));
+    }
+
+    @Test
+    void collectionsAndArraysTest() {
+        Object[] array = {"a", new Phone("46", "1"), null};
+        Object[] arrayCopy = DeepCloner.clone(array);
+        assertNotSame(array, arrayCopy);
+        assertSame(array[0], arrayCopy[0]);
+        assertNotSame(array[1], arrayCopy[1]);
+
+        TreeSet<String> set = new TreeSet<>(Collections.reverseOrder());
+        set.addAll(Arrays.asList("a", "b", "c"));
+        TreeSet<String> setCopy = DeepCloner.clone(set);
+        assertEquals(Arrays.asList("c", "b", "a"), new ArrayList<>(setCopy));
+
+        String[] strings = {"x", "y"};
+        assertArrayEquals(strings, DeepCloner.clone(strings));
+        assertNull(DeepCloner.clone(null));
+    }
+
+    @Test
+    void unsupportedTest() {
+        assertThrows(IllegalStateException.class, () -> DeepCloner.clone(Collections.unmodifiableList(new ArrayList<>())));
+        assertThrows(IllegalStateException.class, () -> DeepCloner.clone(new Custom()));
+    }
+
+    @Test
+    void objectsCloneFallbackTest() {
+        Person felix = new Person(1, "Felix", new Phone("46", "991142429"));
+        Holder holder = new Holder(Collections.singletonList(felix));
+        Holder copy = Objects.clone(holder);
+        assertNotSame(holder.persons, copy.persons);
+        assertEquals("Felix", copy.persons.get(0).getName());
+        assertNotSame(felix, copy.persons.get(0));
+    }
+
+    static class Node {
+
+        final String name;
+        int weight;
+        int[] values;
+        BigDecimal amount;
+        LocalDate date;
+        Date created;
+        Node parent;
+        List<Node> children = new ArrayList<>();
+        Map<String, Object> attributes = new HashMap<>();
+        transient String cache;
+
+        Node(String name, int weight, int[] values) {
+            this.name = name;
+            this.weight = weight;
+            this.values = values;
+        }
+    }
+
+    static class Custom implements Serializable {
+
+        private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+            out.defaultWriteObject();
+        }
+    }
+
+    static class Holder implements Serializable {
+
+        final List<Person> persons;
+
+        Holder(List<Person> persons) {
+            this.persons = persons;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.felix.common.object;
+
+import com.felix.common.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedRecordsTest {
+
+    private final CompactCodec codec = CompactCodec.of(Person.class);
+
+    @Test
+    void randomAccessTest(@TempDir Path directory) throws IOException {
+        Path file = write(directory.resolve("persons.bin"), 500);
+        try (MappedRecords<Person> records = MappedRecords.open(file, codec)) {
+            assertEquals(500, records.size());
+            assertEquals("Person 321", records.get(321).getName());
+            assertEquals(Integer.valueOf(0), records.get(0).getId());
+            assertEquals(124750, records.stream().mapToInt(Person::getId).sum());
+            assertThrows(IndexOutOfBoundsException.class, () -> records.get(500));
+        }
+    }
+
+    @Test
+    void recordsAcrossSegmentsTest(@TempDir Path directory) throws IOException {
+        Path file = write(directory.resolve("persons.bin"), 200);
+        try (MappedRecords<Person> records = MappedRecords.open(MappedFile.open(file, 7), codec)) {
+            assertEquals(200, records.size());
+            for (int i = 0; i < 200; i++) {
+                assertEquals("Person " + i, records.get(i).getName());
+            }
+        }
+    }
+
+    @Test
+    void closedTest(@TempDir Path directory) throws IOException {
+        Path file = write(directory.resolve("persons.bin"), 3);
+        MappedRecords<Person> records = MappedRecords.open(file, codec);
+        assertEquals("Person 1", records.get(1).getName());
+        records.close();
+        assertThrows(IllegalStateException.class, () -> records.get(1));
+        assertThrows(IllegalStateException.class, () -> records.stream().findFirst());
+        records.close();
+    }
+
+    @Test
+    void invalidFileTest(@TempDir Path directory) throws IOException {
+        Path file = write(directory.resolve("persons.bin"), 3);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+        assertThrows(IOException.class, () -> MappedRecords.open(file, codec));
+
+        Path empty = Files.createFile(directory.resolve("empty.bin"));
+        try (MappedRecords<Person> records = MappedRecords.open(empty, codec)) {
+            assertEquals(0, records.size());
+        }
+    }
+
+    private Path write(Path file, int count) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file); RecordWriter writer = RecordWriter.of(out, codec)) {
+            for (int i = 0; i < count; i++) {
+                writer.write(new Person(i, "Person " + i));
+            }
+        }
+        return file;
+    }
+}
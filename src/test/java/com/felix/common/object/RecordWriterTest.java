@@ -0,0 +1,74 @@
+package com.felix.common.object;
+
+import com.felix.common.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecordWriterTest {
+
+    private final CompactCodec codec = CompactCodec.of(Person.class);
+
+    @Test
+    void streamRoundTripTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RecordWriter writer = RecordWriter.of(out, codec)) {
+            writer.writeAll(Person.getPersons());
+            writer.write(null);
+            assertEquals(4, writer.getCount());
+            assertEquals(out.size(), writer.getBytes());
+        }
+
+        try (RecordReader<Person> reader = RecordReader.of(new ByteArrayInputStream(out.toByteArray()), codec)) {
+            assertEquals("Felix", reader.next().getName());
+            List<Person> rest = new ArrayList<>();
+            reader.forEachRemaining(rest::add);
+            assertEquals(Arrays.asList("Ricardo", "João"), rest.subList(0, 2).stream().map(Person::getName).collect(Collectors.toList()));
+            assertNull(rest.get(2));
+            assertFalse(reader.hasNext());
+            assertThrows(NoSuchElementException.class, reader::next);
+        }
+    }
+
+    @Test
+    void fileChannelRoundTripTest(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("persons.bin");
+        try (RecordWriter writer = RecordWriter.of(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE), codec)) {
+            for (int i = 0; i < 1000; i++) {
+                writer.write(new Person(i, "Person " + i));
+            }
+        }
+
+        try (RecordReader<Person> reader = RecordReader.of(FileChannel.open(file), JavaSerializationCodec.INSTANCE)) {
+            assertThrows(RuntimeException.class, reader::next);
+        }
+        try (RecordReader<Person> reader = RecordReader.of(FileChannel.open(file), codec)) {
+            assertEquals(499500, reader.stream().mapToInt(Person::getId).sum());
+        }
+    }
+
+    @Test
+    void truncatedTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RecordWriter writer = RecordWriter.of(out, codec)) {
+            writer.write(new Person(1, "Felix"));
+        }
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+        RecordReader<Person> reader = RecordReader.of(new ByteArrayInputStream(truncated), codec);
+        assertTrue(reader.hasNext());
+        assertThrows(RuntimeException.class, reader::next);
+    }
+}
@@ -0,0 +1,115 @@
+package com.felix.common.object;
+
+import com.felix.common.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotStoreTest {
+
+    private final CompactCodec codec = CompactCodec.of(Person.class);
+
+    @Test
+    void lazyLoadTest(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("persons.snapshot");
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            persons.add(i == 10 ? null : new Person(i, "Person " + i));
+        }
+        SnapshotStore.write(file, persons, codec);
+
+        try (SnapshotStore<Person> store = SnapshotStore.open(file, codec)) {
+            assertEquals(2000, store.size());
+            assertFalse(store.isLoaded(1500));
+            Person person = store.get(1500);
+            assertEquals("Person 1500", person.getName());
+            assertTrue(store.isLoaded(1500));
+            assertSame(person, store.get(1500));
+            assertFalse(store.isLoaded(1499));
+
+            assertNull(store.get(10));
+            assertTrue(store.isLoaded(10));
+            assertEquals(1999000 - 10, store.stream().filter(java.util.Objects::nonNull).mapToInt(Person::getId).sum());
+            assertThrows(IndexOutOfBoundsException.class, () -> store.get(2000));
+        }
+    }
+
+    @Test
+    void writerTest(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("persons.snapshot");
+        try (SnapshotStore.Writer writer = SnapshotStore.writer(file, JavaSerializationCodec.INSTANCE)) {
+            assertEquals(0, writer.write(new Person(1, "Felix")));
+            assertEquals(1, writer.write(new Person(2, "Ana")));
+            assertEquals(2, writer.getCount());
+        }
+        try (SnapshotStore<Person> store = SnapshotStore.open(file, JavaSerializationCodec.INSTANCE)) {
+            assertEquals("Ana", store.get(1).getName());
+        }
+
+        SnapshotStore<Person> closed = SnapshotStore.open(file, JavaSerializationCodec.INSTANCE);
+        closed.close();
+        assertThrows(IllegalStateException.class, () -> closed.get(0));
+
+        SnapshotStore.write(file, new ArrayList<>(), codec);
+        try (SnapshotStore<Person> store = SnapshotStore.open(file, codec)) {
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    void corruptedTest(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("persons.snapshot");
+        SnapshotStore.write(file, Arrays.asList(new Person(1, "Felix"), new Person(2, "Ana")), codec);
+        byte[] bytes = Files.readAllBytes(file);
+
+        byte[] corrupted = bytes.clone();
+        corrupted[20] ^= 0x01;
+        Files.write(file, corrupted);
+        try (SnapshotStore<Person> store = SnapshotStore.open(file, codec)) {
+            assertThrows(IllegalStateException.class, () -> store.get(0));
+            assertEquals("Ana", store.get(1).getName());
+        }
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> SnapshotStore.open(file, codec));
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> SnapshotStore.open(file, codec));
+    }
+
+    @Test
+    void failedWriteTest(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("persons.snapshot");
+        SnapshotStore.write(file, Arrays.asList(new Person(1, "Felix"), new Person(2, "Ana")), codec);
+
+        Iterable<Person> failing = () -> IntStream.range(0, 3).mapToObj(i -> {
+            if (i == 2)
+                throw new IllegalStateException("Source failed.");
+            return new Person(i, "Person " + i);
+        }).iterator();
+        assertThrows(IllegalStateException.class, () -> SnapshotStore.write(file, failing, codec));
+
+        SnapshotStore.Writer writer = SnapshotStore.writer(file, codec);
+        writer.write(new Person(3, "John"));
+        writer.abort();
+        writer.close();
+        assertThrows(IllegalStateException.class, () -> writer.write(new Person(4, "Mary")));
+
+        try (SnapshotStore<Person> store = SnapshotStore.open(file, codec)) {
+            assertEquals(2, store.size());
+            assertEquals("Ana", store.get(1).getName());
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+}